@@ -0,0 +1,79 @@
+package baraco.benchmarks;
+
+import baraco.antlr.error.BaracoErrorListener;
+import baraco.antlr.lexer.BaracoLexer;
+import baraco.antlr.parser.BaracoParser;
+import baraco.antlr.parser.BaracoParser.ExpressionContext;
+import baraco.builder.BuildChecker;
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionContext;
+import baraco.execution.ExecutionManager;
+import baraco.utils.console.OutputBuffer;
+import baraco.utils.console.OverflowPolicy;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+/**
+ * Builds the Baraco programs that the benchmarks measure. Each program gets its own execution context, so
+ * benchmarks never share symbol tables, and its output is discarded.
+ *
+ * The benchmarks use JMH. bench/pom.xml pins the JMH and ANTLR versions and builds them, together with the
+ * interpreter sources, into one jar. From the repository root, build and run every benchmark with
+ *
+ *     mvn -B -f bench/pom.xml package
+ *     java -jar bench/target/benchmarks.jar baraco.benchmarks -rf json -rff results.json
+ *
+ * or a single one by giving its class name instead of the package. All benchmarks use fixed inputs and the
+ * same forks, warmup, measurement and heap size, so results taken before and after a change on the same machine
+ * can be compared score by score, within the error JMH reports for each.
+ *
+ * Whole programs are measured by {@link CorpusBenchmark}, which does not need JMH.
+ */
+public class BenchmarkPrograms {
+
+    private final static String TAG = "BenchmarkPrograms";
+
+    private BenchmarkPrograms() {
+
+    }
+
+    /*
+     * Builds the source in a new execution context. Throws an IllegalStateException if it has build errors.
+     */
+    public static ExecutionContext build(String className, String source) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.setOutputSink(new OutputBuffer(OutputBuffer.DEFAULT_CAPACITY, OverflowPolicy.DROP));
+
+        executionContext.run(() -> {
+            ParserHandler.getInstance().parseText(className + ".bara", source);
+
+            if(!BuildChecker.getInstance().canExecute()) {
+                throw new IllegalStateException(className + " has build errors");
+            }
+        });
+
+        return executionContext;
+    }
+
+    /*
+     * Runs the program of the context to its end, so that its variables hold the values it assigned.
+     */
+    public static void execute(ExecutionContext executionContext) throws Exception {
+        executionContext.call(() -> {
+            ExecutionManager.getInstance().executeAllActions();
+            ExecutionManager.getInstance().awaitExecution();
+            return null;
+        });
+    }
+
+    /*
+     * Parses a single expression, the way it would appear inside a statement.
+     */
+    public static ExpressionContext parseExpression(String expressionText) {
+        BaracoParser parser = new BaracoParser(new CommonTokenStream(new BaracoLexer(new ANTLRInputStream(expressionText))));
+        parser.removeErrorListeners();
+        parser.addErrorListener(new BaracoErrorListener());
+
+        return parser.expression();
+    }
+}
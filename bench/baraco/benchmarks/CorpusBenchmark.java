@@ -0,0 +1,468 @@
+package baraco.benchmarks;
+
+import baraco.cli.BaracoRunner;
+import baraco.execution.ExecutionContext;
+import baraco.utils.console.StandardOutputSink;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Runs the Baraco programs of a corpus end to end, the way the command line runner does: parsing, build checks and
+ * execution. Each program Name.bara needs a Name.expected file with the exact text it prints, and may have a
+ * Name.input file with the lines its scan statements read. Errors are printed to standard error.
+ *
+ * Every program is run a few times to warm up, then measured over a number of runs. Its median heap allocation and
+ * its highest peak heap usage are compared with baseline.properties in the corpus directory. For wall time, its
+ * fastest run is compared with the median run of the baseline: the slower runs are the ones other work on the
+ * machine got in the way of, so a program has only slowed down if even its fastest run is slower than usual.
+ * A wrong output, a failed run or a measurement above its baseline by more than the tolerance is reported, and the
+ * harness exits with 1. With --record-baseline, the measurements are written as the new baseline instead.
+ *
+ * Absolute times and sizes only mean something on the machine and JVM they were measured on, so the baseline is
+ * not part of the repository. Record one on the checkout before a change, then compare after it. A baseline
+ * recorded on another machine or JVM is not compared against. Without a usable baseline, only the outputs are checked.
+ *
+ * Usage: java -cp bench/target/benchmarks.jar baraco.benchmarks.CorpusBenchmark [--warmup n] [--iterations n]
+ *        [--tolerance fraction] [--record-baseline] [corpus directory]
+ */
+public class CorpusBenchmark {
+
+    private final static String TAG = "CorpusBenchmark";
+
+    public final static int EXIT_SUCCESS = 0;
+    public final static int EXIT_REGRESSION = 1;
+    public final static int EXIT_USAGE = 64;
+
+    private final static String DEFAULT_CORPUS = "bench/programs";
+    private final static String BASELINE_FILE = "baseline.properties";
+    private final static String MACHINE_KEY = "machine";
+
+    private final static long MIN_WALL_MILLIS_DIFFERENCE = 5; //smaller slowdowns are within the noise of a single run
+
+    private final static Method TOTAL_ALLOCATED_BYTES = findTotalAllocatedBytes();
+
+    private final Path corpusDirectory;
+    private final int warmupRuns;
+    private final int measuredRuns;
+    private final double tolerance;
+
+    public CorpusBenchmark(Path corpusDirectory, int warmupRuns, int measuredRuns, double tolerance) {
+        this.corpusDirectory = corpusDirectory;
+        this.warmupRuns = warmupRuns;
+        this.measuredRuns = measuredRuns;
+        this.tolerance = tolerance;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path corpusDirectory = Paths.get(DEFAULT_CORPUS);
+        int warmupRuns = 20; //each run is short, so the interpreter takes this many to be fully compiled
+        int measuredRuns = 10;
+        double tolerance = 0.25;
+        boolean record = false;
+
+        try {
+            for(int i = 0; i < args.length; i++) {
+                if(args[i].equals("--warmup") && i + 1 < args.length) {
+                    warmupRuns = Integer.parseInt(args[++i]);
+                }
+                else if(args[i].equals("--iterations") && i + 1 < args.length) {
+                    measuredRuns = Integer.parseInt(args[++i]);
+                }
+                else if(args[i].equals("--tolerance") && i + 1 < args.length) {
+                    tolerance = Double.parseDouble(args[++i]);
+                }
+                else if(args[i].equals("--record-baseline")) {
+                    record = true;
+                }
+                else if(!args[i].startsWith("--")) {
+                    corpusDirectory = Paths.get(args[i]);
+                }
+                else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            printUsage();
+            System.exit(EXIT_USAGE);
+        }
+
+        if(warmupRuns < 0 || measuredRuns < 1 || tolerance < 0 || !Files.isDirectory(corpusDirectory)) {
+            printUsage();
+            System.exit(EXIT_USAGE);
+        }
+
+        CorpusBenchmark corpusBenchmark = new CorpusBenchmark(corpusDirectory, warmupRuns, measuredRuns, tolerance);
+        List<Measurement> measurements = corpusBenchmark.measureAll();
+        boolean passed = true;
+
+        for(Measurement measurement : measurements) {
+            passed &= measurement.failure == null;
+        }
+
+        if(record) {
+            if(!passed) {
+                System.err.println("Not recording a baseline, some programs failed.");
+                System.exit(EXIT_REGRESSION);
+            }
+
+            corpusBenchmark.writeBaseline(measurements);
+            System.out.println("Recorded " + corpusDirectory.resolve(BASELINE_FILE));
+        }
+        else {
+            passed &= corpusBenchmark.compareWithBaseline(measurements);
+        }
+
+        System.exit(passed ? EXIT_SUCCESS : EXIT_REGRESSION);
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: baraco.benchmarks.CorpusBenchmark [--warmup n] [--iterations n] [--tolerance fraction] " +
+                "[--record-baseline] [corpus directory]");
+    }
+
+    /*
+     * Measures every program of the corpus, in alphabetical order, printing one line for each.
+     */
+    public List<Measurement> measureAll() throws IOException {
+        List<Path> programs = new ArrayList<Path>();
+
+        try(DirectoryStream<Path> directoryStream = Files.newDirectoryStream(this.corpusDirectory, "*.bara")) {
+            for(Path program : directoryStream) {
+                programs.add(program);
+            }
+        }
+
+        Collections.sort(programs);
+
+        List<Measurement> measurements = new ArrayList<Measurement>();
+        System.out.println(String.format("%-20s %12s %16s %16s", "program", "wall ms", "allocated bytes", "peak heap bytes"));
+
+        for(Path program : programs) {
+            Measurement measurement = this.measure(program);
+            measurements.add(measurement);
+
+            if(measurement.failure != null) {
+                System.out.println(String.format("%-20s FAILED: %s", measurement.programName, measurement.failure));
+            }
+            else {
+                System.out.println(String.format("%-20s %12.3f %16d %16d", measurement.programName,
+                        measurement.wallNanos / 1000000.0, measurement.allocatedBytes, measurement.peakHeapBytes));
+            }
+        }
+
+        return measurements;
+    }
+
+    /*
+     * Runs one program through the warmup and measured runs. Stops at the first run that fails.
+     */
+    public Measurement measure(Path program) throws IOException {
+        String fileName = program.getFileName().toString();
+        String programName = fileName.substring(0, fileName.length() - ".bara".length());
+        Measurement measurement = new Measurement(programName);
+
+        Path expectedPath = program.resolveSibling(programName + ".expected");
+        Path inputPath = program.resolveSibling(programName + ".input");
+
+        if(!Files.exists(expectedPath)) {
+            measurement.failure = "missing " + expectedPath.getFileName();
+            return measurement;
+        }
+
+        String source = new String(Files.readAllBytes(program), StandardCharsets.UTF_8);
+        String expectedOutput = new String(Files.readAllBytes(expectedPath), StandardCharsets.UTF_8);
+        byte[] input = Files.exists(inputPath) ? Files.readAllBytes(inputPath) : new byte[0];
+
+        long[] wallNanos = new long[this.measuredRuns];
+        long[] allocatedBytes = new long[this.measuredRuns];
+
+        for(int i = 0; i < this.warmupRuns + this.measuredRuns; i++) {
+            System.gc(); //so that the peak heap of a run does not include the garbage of the previous ones
+            resetPeakHeapUsage();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ExecutionContext executionContext = new ExecutionContext();
+            executionContext.setOutputSink(new StandardOutputSink(new PrintStream(output, true, "UTF-8"), System.err));
+            BaracoRunner runner = new BaracoRunner(new ByteArrayInputStream(input));
+
+            long allocatedBefore = getAllocatedBytes();
+            long start = System.nanoTime();
+            int exitCode;
+
+            try {
+                exitCode = executionContext.call(() -> runner.run(fileName, source));
+            } catch (Exception e) {
+                measurement.failure = e.toString();
+                return measurement;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            long allocatedAfter = getAllocatedBytes();
+            long peakHeapBytes = getPeakHeapUsage();
+
+            if(exitCode != BaracoRunner.EXIT_SUCCESS) {
+                measurement.failure = "exited with " + exitCode;
+                return measurement;
+            }
+
+            if(!new String(output.toByteArray(), StandardCharsets.UTF_8).equals(expectedOutput)) {
+                measurement.failure = "output differs from " + expectedPath.getFileName();
+                return measurement;
+            }
+
+            if(i >= this.warmupRuns) {
+                wallNanos[i - this.warmupRuns] = elapsed;
+                allocatedBytes[i - this.warmupRuns] = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+                measurement.peakHeapBytes = Math.max(measurement.peakHeapBytes, peakHeapBytes);
+            }
+        }
+
+        measurement.wallNanos = min(wallNanos);
+        measurement.medianWallNanos = median(wallNanos);
+        measurement.allocatedBytes = median(allocatedBytes);
+
+        return measurement;
+    }
+
+    /*
+     * Compares the measurements with the baseline of the corpus, printing every regression.
+     * Returns false if there is at least one. A missing baseline, one recorded on another machine or JVM, and
+     * programs without a baseline are reported but do not fail.
+     */
+    public boolean compareWithBaseline(List<Measurement> measurements) throws IOException {
+        Path baselinePath = this.corpusDirectory.resolve(BASELINE_FILE);
+
+        if(!Files.exists(baselinePath)) {
+            System.out.println("No baseline at " + baselinePath + ". Run with --record-baseline to create one.");
+            return true;
+        }
+
+        Properties baseline = new Properties();
+
+        try(Reader reader = Files.newBufferedReader(baselinePath, StandardCharsets.UTF_8)) {
+            baseline.load(reader);
+        }
+
+        String machine = describeMachine();
+
+        if(!machine.equals(baseline.getProperty(MACHINE_KEY))) {
+            System.out.println("The baseline at " + baselinePath + " was recorded on " + baseline.getProperty(MACHINE_KEY) +
+                    ", not on " + machine + ". Run with --record-baseline to replace it.");
+            return true;
+        }
+
+        boolean passed = true;
+
+        for(Measurement measurement : measurements) {
+            if(measurement.failure != null) {
+                continue;
+            }
+
+            String programName = measurement.programName;
+
+            if(baseline.getProperty(programName + ".wallMillis") == null) {
+                System.out.println(programName + " has no baseline");
+                continue;
+            }
+
+            double baselineWallMillis = Double.parseDouble(baseline.getProperty(programName + ".medianWallMillis",
+                    baseline.getProperty(programName + ".wallMillis")));
+            long baselineAllocatedBytes = Long.parseLong(baseline.getProperty(programName + ".allocatedBytes", "-1"));
+            long baselinePeakHeapBytes = Long.parseLong(baseline.getProperty(programName + ".peakHeapBytes", "-1"));
+            double wallMillis = measurement.wallNanos / 1000000.0;
+
+            if(wallMillis - baselineWallMillis >= MIN_WALL_MILLIS_DIFFERENCE) {
+                passed &= this.checkRegression(programName, "wall ms", baselineWallMillis, wallMillis);
+            }
+
+            if(baselineAllocatedBytes >= 0 && measurement.allocatedBytes >= 0) {
+                passed &= this.checkRegression(programName, "allocated bytes", baselineAllocatedBytes, measurement.allocatedBytes);
+            }
+
+            if(baselinePeakHeapBytes >= 0) {
+                passed &= this.checkRegression(programName, "peak heap bytes", baselinePeakHeapBytes, measurement.peakHeapBytes);
+            }
+        }
+
+        System.out.println(passed ? "No regressions against " + baselinePath : "REGRESSIONS against " + baselinePath);
+
+        return passed;
+    }
+
+    /*
+     * Returns false, after reporting it, if the value is above the baseline by more than the tolerance.
+     */
+    private boolean checkRegression(String programName, String metric, double baselineValue, double value) {
+        if(value <= baselineValue * (1 + this.tolerance)) {
+            return true;
+        }
+
+        System.out.println(String.format("REGRESSION %s %s: %.0f, baseline %.0f (+%.1f%%)", programName, metric, value,
+                baselineValue, (value / baselineValue - 1) * 100));
+
+        return false;
+    }
+
+    /*
+     * Writes the measurements as the baseline of the corpus, sorted by program so that changes diff cleanly.
+     */
+    public void writeBaseline(List<Measurement> measurements) throws IOException {
+        StringBuilder baseline = new StringBuilder();
+        baseline.append("# Measured by baraco.benchmarks.CorpusBenchmark --record-baseline with ").append(this.warmupRuns)
+                .append(" warmup and ").append(this.measuredRuns).append(" measured runs\n");
+        baseline.append(MACHINE_KEY).append("=").append(describeMachine()).append("\n");
+
+        for(Measurement measurement : measurements) {
+            baseline.append(measurement.programName).append(".wallMillis=")
+                    .append(String.format("%.3f", measurement.wallNanos / 1000000.0)).append("\n");
+            baseline.append(measurement.programName).append(".medianWallMillis=")
+                    .append(String.format("%.3f", measurement.medianWallNanos / 1000000.0)).append("\n");
+            baseline.append(measurement.programName).append(".allocatedBytes=").append(measurement.allocatedBytes).append("\n");
+            baseline.append(measurement.programName).append(".peakHeapBytes=").append(measurement.peakHeapBytes).append("\n");
+        }
+
+        Files.write(this.corpusDirectory.resolve(BASELINE_FILE), baseline.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * Describes the machine and JVM that measure the corpus. Baselines are only compared on the same one.
+     */
+    private static String describeMachine() {
+        String hostName;
+
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            hostName = "unknown host";
+        }
+
+        return hostName + ", " + System.getProperty("os.name") + " " + System.getProperty("os.arch") + ", " +
+                Runtime.getRuntime().availableProcessors() + " processors, " + (Runtime.getRuntime().maxMemory() >> 20) +
+                " MB heap, " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version");
+    }
+
+    /*
+     * Returns the bytes allocated on the heap by every thread so far, or -1 if the JVM does not measure it.
+     * The execution thread of a program ends with its run, so only the total over all threads includes it.
+     * That total is only available from Java 21, through reflection so that the harness still runs on older JVMs.
+     */
+    private static long getAllocatedBytes() {
+        if(TOTAL_ALLOCATED_BYTES == null) {
+            return -1;
+        }
+
+        try {
+            return (Long) TOTAL_ALLOCATED_BYTES.invoke(ManagementFactory.getThreadMXBean());
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    private static Method findTotalAllocatedBytes() {
+        try {
+            return Class.forName("com.sun.management.ThreadMXBean").getMethod("getTotalThreadAllocatedBytes");
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static void resetPeakHeapUsage() {
+        for(MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(memoryPool.getType() == MemoryType.HEAP && memoryPool.isValid()) {
+                memoryPool.resetPeakUsage();
+            }
+        }
+    }
+
+    /*
+     * Returns the sum of the peak usage of every heap pool since they were last reset.
+     */
+    private static long getPeakHeapUsage() {
+        long peakHeapBytes = 0;
+
+        for(MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(memoryPool.getType() == MemoryType.HEAP && memoryPool.isValid()) {
+                peakHeapBytes += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+
+        return peakHeapBytes;
+    }
+
+    private static long min(long[] values) {
+        long min = Long.MAX_VALUE;
+
+        for(long value : values) {
+            min = Math.min(min, value);
+        }
+
+        return min;
+    }
+
+    private static long median(long[] values) {
+        long[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+
+        return sortedValues[sortedValues.length / 2];
+    }
+
+    /**
+     * What was measured for one program. Failure is null if every run printed the expected output.
+     */
+    public static class Measurement {
+
+        private final String programName;
+        private long wallNanos = 0; //of the fastest run
+        private long medianWallNanos = 0;
+        private long allocatedBytes = -1;
+        private long peakHeapBytes = 0;
+        private String failure = null;
+
+        public Measurement(String programName) {
+            this.programName = programName;
+        }
+
+        public String getProgramName() {
+            return this.programName;
+        }
+
+        public long getWallNanos() {
+            return this.wallNanos;
+        }
+
+        public long getMedianWallNanos() {
+            return this.medianWallNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return this.allocatedBytes;
+        }
+
+        public long getPeakHeapBytes() {
+            return this.peakHeapBytes;
+        }
+
+        public String getFailure() {
+            return this.failure;
+        }
+    }
+}
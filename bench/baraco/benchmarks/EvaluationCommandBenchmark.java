@@ -0,0 +1,69 @@
+package baraco.benchmarks;
+
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionContext;
+import baraco.execution.commands.EvaluationCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executing an EvaluationCommand on integer, decimal, boolean and string expressions over the variables of main.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class EvaluationCommandBenchmark {
+
+    private final static String SOURCE =
+            "class EvaluationBench:\n" +
+            "    void main():\n" +
+            "        int a = 7;\n" +
+            "        int b = 3;\n" +
+            "        decimal d = 2.5;\n" +
+            "        string s = \"baraco\";\n" +
+            "    end\n" +
+            "end\n";
+
+    @Param({"a + b * 3", "d * 2.5 - a / b", "a * a + b > 50 and d < 3.0", "s + a"})
+    public String expressionText;
+
+    private ExecutionContext executionContext;
+    private EvaluationCommand evaluationCommand;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.executionContext = BenchmarkPrograms.build("EvaluationBench", SOURCE);
+        BenchmarkPrograms.execute(this.executionContext);
+
+        this.executionContext.bind();
+        this.evaluationCommand = new EvaluationCommand(BenchmarkPrograms.parseExpression(this.expressionText));
+        ParserHandler.getInstance().resolveReferences();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExecutionContext.unbind();
+    }
+
+    @Benchmark
+    public EvaluationCommand execute() {
+        this.evaluationCommand.execute();
+
+        return this.evaluationCommand;
+    }
+}
@@ -0,0 +1,59 @@
+package baraco.benchmarks;
+
+import baraco.antlr.parser.BaracoParser.ExpressionContext;
+import baraco.semantics.expressions.ExpressionCompiler;
+import baraco.semantics.expressions.ExpressionNode;
+import baraco.semantics.optimization.PassManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiling an expression into a node tree, running the optimization passes over it, and evaluating the tree as
+ * it was compiled. The expressions only use literals, so that the passes have something to fold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExpressionBenchmark {
+
+    @Param({"1 + 2 * 3", "(4.5 * 2.1) / (3 - 1.5) > 2", "12 * 12 + 3 * 12 - 7 >= 100 and 12 != 0"})
+    public String expressionText;
+
+    private ExpressionContext exprCtx;
+    private ExpressionNode expressionNode;
+
+    @Setup
+    public void setUp() {
+        this.exprCtx = BenchmarkPrograms.parseExpression(this.expressionText);
+        this.expressionNode = ExpressionCompiler.compile(this.exprCtx);
+    }
+
+    @Benchmark
+    public ExpressionNode compile() {
+        return ExpressionCompiler.compile(this.exprCtx);
+    }
+
+    @Benchmark
+    public ExpressionNode compileAndOptimize() {
+        return PassManager.getInstance().optimize(ExpressionCompiler.compile(this.exprCtx));
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return this.expressionNode.isIntegral() ? this.expressionNode.evaluateInt() : this.expressionNode.evaluateDecimal();
+    }
+}
@@ -0,0 +1,77 @@
+package baraco.benchmarks;
+
+import baraco.representations.BaracoValue;
+import baraco.semantics.symboltable.scopes.LocalScope;
+import baraco.semantics.symboltable.scopes.LocalScopeCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocalScopeCreator.searchVariableInLocalIterative() on a tree of local scopes. Every scope has the given number
+ * of children, of which only the last one has children of its own, so the variable declared at the bottom is
+ * found after searching every other scope.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class LocalScopeSearchBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int scopeDepth;
+
+    @Param({"1", "4"})
+    public int childCount;
+
+    private LocalScope rootScope;
+
+    @Setup
+    public void setUp() {
+        this.rootScope = new LocalScope();
+        this.rootScope.addInitializedVariableFromKeywords("int", "shallow", "1");
+
+        LocalScope parentScope = this.rootScope;
+
+        for(int depth = 1; depth <= this.scopeDepth; depth++) {
+            LocalScope childScope = null;
+
+            for(int i = 0; i < this.childCount; i++) {
+                childScope = new LocalScope(parentScope);
+                childScope.addInitializedVariableFromKeywords("int", "local" + depth + "_" + i, String.valueOf(i));
+                parentScope.addChild(childScope);
+            }
+
+            parentScope = childScope;
+        }
+
+        parentScope.addInitializedVariableFromKeywords("int", "deepest", "0");
+    }
+
+    @Benchmark
+    public BaracoValue searchShallow() {
+        return LocalScopeCreator.searchVariableInLocalIterative("shallow", this.rootScope);
+    }
+
+    @Benchmark
+    public BaracoValue searchDeepest() {
+        return LocalScopeCreator.searchVariableInLocalIterative("deepest", this.rootScope);
+    }
+
+    @Benchmark
+    public BaracoValue searchUndeclared() {
+        return LocalScopeCreator.searchVariableInLocalIterative("undeclared", this.rootScope);
+    }
+}
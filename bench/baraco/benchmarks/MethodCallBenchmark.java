@@ -0,0 +1,84 @@
+package baraco.benchmarks;
+
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionContext;
+import baraco.execution.commands.simple.MethodCallCommand;
+import baraco.antlr.parser.BaracoParser.ExpressionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calling a BaracoMethod the way a call statement does: evaluating the arguments, mapping them into a new frame
+ * and executing the body. fact(10) makes ten nested calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MethodCallBenchmark {
+
+    private final static String SOURCE =
+            "class CallBench:\n" +
+            "    public void noop():\n" +
+            "        int unused = 0;\n" +
+            "    end\n" +
+            "    public int add(int a, int b):\n" +
+            "        return a + b;\n" +
+            "    end\n" +
+            "    public int fact(int n):\n" +
+            "        if (n <= 1):\n" +
+            "            return 1;\n" +
+            "        end\n" +
+            "        return n * fact(n - 1);\n" +
+            "    end\n" +
+            "    void main():\n" +
+            "        noop();\n" +
+            "        println(add(20, 22));\n" +
+            "        println(fact(10));\n" +
+            "    end\n" +
+            "end\n";
+
+    @Param({"noop()", "add(20, 22)", "fact(10)"})
+    public String callText;
+
+    private ExecutionContext executionContext;
+    private MethodCallCommand methodCallCommand;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.executionContext = BenchmarkPrograms.build("CallBench", SOURCE);
+        BenchmarkPrograms.execute(this.executionContext); //the calls need the execution monitor of a run
+
+        this.executionContext.bind();
+
+        ExpressionContext callCtx = BenchmarkPrograms.parseExpression(this.callText);
+        this.methodCallCommand = new MethodCallCommand(callCtx.expression(0).getText(), callCtx);
+        ParserHandler.getInstance().resolveReferences();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExecutionContext.unbind();
+    }
+
+    @Benchmark
+    public MethodCallCommand call() {
+        this.methodCallCommand.execute();
+
+        return this.methodCallCommand;
+    }
+}
@@ -0,0 +1,77 @@
+package baraco.benchmarks;
+
+import baraco.builder.BuildChecker;
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParserHandler.parseText() on a generated class with the given number of methods, each with a loop, a branch and
+ * a few assignments. Every build starts from a new execution context, like a fresh run of the CLI.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ParserBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int methodCount;
+
+    private String source;
+
+    @Setup
+    public void setUp() {
+        this.source = createSource(this.methodCount);
+        BenchmarkPrograms.build("ParseBench", this.source); //fails early if the generated source has errors
+    }
+
+    @Benchmark
+    public boolean parseText() throws Exception {
+        return new ExecutionContext().call(() -> {
+            ParserHandler.getInstance().parseText("ParseBench.bara", this.source);
+            return BuildChecker.getInstance().canExecute();
+        });
+    }
+
+    private static String createSource(int methodCount) {
+        StringBuilder source = new StringBuilder();
+        source.append("class ParseBench:\n");
+
+        for(int i = 0; i < methodCount; i++) {
+            source.append("    public int method").append(i).append("(int n):\n");
+            source.append("        int acc = 0;\n");
+            source.append("        for (int i = 0; i < n; i++):\n");
+            source.append("            if (i % 2 == 0):\n");
+            source.append("                acc += i * ").append(i).append(";\n");
+            source.append("            end\n");
+            source.append("            else:\n");
+            source.append("                acc = acc - 1;\n");
+            source.append("            end\n");
+            source.append("        end\n");
+            source.append("        return acc;\n");
+            source.append("    end\n");
+        }
+
+        source.append("    void main():\n");
+        source.append("        println(method0(10));\n");
+        source.append("    end\n");
+        source.append("end\n");
+
+        return source.toString();
+    }
+}
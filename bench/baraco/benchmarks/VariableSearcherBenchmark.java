@@ -0,0 +1,94 @@
+package baraco.benchmarks;
+
+import baraco.execution.ExecutionContext;
+import baraco.representations.BaracoValue;
+import baraco.semantics.searching.VariableSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searching a variable by name from main, whose body nests the given number of if blocks. Each block declares
+ * a variable, the innermost one declares deepest, and undeclared is never found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class VariableSearcherBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int scopeDepth;
+
+    private ExecutionContext executionContext;
+
+    @Setup
+    public void setUp() {
+        this.executionContext = BenchmarkPrograms.build("SearchBench", createSource(this.scopeDepth));
+        this.executionContext.bind();
+
+        if(VariableSearcher.searchVariable("deepest") == null) {
+            throw new IllegalStateException("deepest is not declared");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExecutionContext.unbind();
+    }
+
+    @Benchmark
+    public BaracoValue searchShallow() {
+        return VariableSearcher.searchVariable("shallow");
+    }
+
+    @Benchmark
+    public BaracoValue searchDeepest() {
+        return VariableSearcher.searchVariable("deepest");
+    }
+
+    @Benchmark
+    public BaracoValue searchUndeclared() {
+        return VariableSearcher.searchVariable("undeclared");
+    }
+
+    private static String createSource(int scopeDepth) {
+        StringBuilder source = new StringBuilder();
+        source.append("class SearchBench:\n");
+        source.append("    void main():\n");
+        source.append("        int shallow = 1;\n");
+
+        String indent = "        ";
+
+        for(int i = 1; i <= scopeDepth; i++) {
+            source.append(indent).append("if (shallow > 0):\n");
+            indent += "    ";
+            source.append(indent).append("int level").append(i).append(" = ").append(i).append(";\n");
+        }
+
+        source.append(indent).append("int deepest = 0;\n");
+
+        for(int i = scopeDepth; i >= 1; i--) {
+            indent = indent.substring(4);
+            source.append(indent).append("end\n");
+        }
+
+        source.append("    end\n");
+        source.append("end\n");
+
+        return source.toString();
+    }
+}
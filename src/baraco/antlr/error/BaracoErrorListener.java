@@ -1,8 +1,8 @@
 package baraco.antlr.error;
 
 import baraco.builder.BuildChecker;
-import baraco.controller.Controller;
-import baraco.ide.View;
+import baraco.utils.console.Console;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.*;
 
 import java.util.ArrayList;
@@ -14,19 +14,16 @@ import java.util.List;
  */
 public class BaracoErrorListener extends BaseErrorListener {
 
-    private ArrayList<BaracoError> errors;
-    private Controller controller;
-
-    public BaracoErrorListener (Controller controller) {
-        errors = new ArrayList<BaracoError>();
+    private final static String TAG = "BaracoErrorListener";
 
-        this.controller = controller;
-    }
+    private ArrayList<BaracoError> errors;
 
+    /*
+     * Errors are reported through Console, which prints them to the output sink of the current execution context,
+     * so the listener does not depend on the IDE.
+     */
     public BaracoErrorListener () {
         errors = new ArrayList<BaracoError>();
-
-        //this.controller = controller;
     }
 
     @Override
@@ -44,9 +41,10 @@ public class BaracoErrorListener extends BaseErrorListener {
         // THEN ADD THEM TO ERRORS LIST
         // USE getErrors() IN PRINTING THE ERRORS IN CONSOLE
 
-        List<String> stack = ((Parser)recognizer).getRuleInvocationStack(); Collections.reverse(stack);
-        //System.err.println("rule stack: "+stack);
-        System.err.println("line "+i+":"+i1+" at "+": "+s);
+        if(Log.isDebugEnabled()) {
+            List<String> stack = ((Parser)recognizer).getRuleInvocationStack(); Collections.reverse(stack);
+            Log.d(TAG, "line "+i+":"+i1+" at "+": "+s+" rule stack: "+stack);
+        }
 
         BaracoError error = new BaracoError();
 
@@ -130,7 +128,9 @@ public class BaracoErrorListener extends BaseErrorListener {
             } else if (str[1].contains("IntegerLiteral") && str[1].contains("FloatingPointLiteral") && str[1].contains("BooleanLiteral") && str[1].contains("CharacterLiteral")
                     && str[1].contains("StringLiteral") && str[1].contains("Identifier")) {
 
-                System.out.println("--==-=-=-==" + i);
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Extraneous input in place of an expression @ Line " + i);
+                }
 
                 error.setErrorSuffix(" : Consider removing " + str[0] + " and replacing it with an expression.");
 
@@ -152,7 +152,7 @@ public class BaracoErrorListener extends BaseErrorListener {
             error.setErrorSuffix(".");
         }
 
-        View.appendErrorInConsole(error);
+        Console.printError(error);
         errors.add(error);
 
         BuildChecker.getInstance().setSuccessful(false);
@@ -164,17 +164,23 @@ public class BaracoErrorListener extends BaseErrorListener {
 
     /*@Override
     public void reportAmbiguity(Parser parser, DFA dfa, int i, int i1, boolean b, BitSet bitSet, ATNConfigSet atnConfigSet) {
-        System.err.println("Ambiguity @ Line " + i + " : " + i1);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Ambiguity @ Line " + i + " : " + i1);
+        }
     }
 
     @Override
     public void reportAttemptingFullContext(Parser parser, DFA dfa, int i, int i1, BitSet bitSet, ATNConfigSet atnConfigSet) {
-        System.err.println("Attempting Full Context @ Line " + i + " : " + i1);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Attempting Full Context @ Line " + i + " : " + i1);
+        }
     }
 
     @Override
     public void reportContextSensitivity(Parser parser, DFA dfa, int i, int i1, int i2, ATNConfigSet atnConfigSet) {
-        System.err.println("Context Sensitivity @ Line " + i + " : " + i1);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Context Sensitivity @ Line " + i + " : " + i1);
+        }
     }*/
 
 }
@@ -1,7 +1,9 @@
 package baraco.builder;
 
 import baraco.antlr.error.BaracoError;
-import baraco.ide.View;
+import baraco.execution.ExecutionContext;
+import baraco.utils.console.Console;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.RecognitionException;
@@ -13,26 +15,20 @@ import java.util.BitSet;
 
 public class BuildChecker implements ANTLRErrorListener {
 
-    private static BuildChecker sharedInstance = null;
+    private final static String TAG = "BuildChecker";
 
-    private boolean successful = true;
+    private volatile boolean successful = true;
 
     public static BuildChecker getInstance() {
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getBuildChecker();
     }
 
-    private BuildChecker() {
+    public BuildChecker() {
 
     }
 
-    public static void initialize() {
-        sharedInstance = new BuildChecker();
-        ErrorRepository.initialize();
-    }
-
     public static void reset() {
-        sharedInstance.successful  = true;
-        ErrorRepository.reset();
+        getInstance().successful  = true;
     }
 
     public boolean canExecute() {
@@ -48,14 +44,14 @@ public class BuildChecker implements ANTLRErrorListener {
 
         baracoError.setErrorPrefix(errorMessage);
 
-        View.appendErrorInConsole(baracoError);
+        Console.printError(baracoError);
 
-        sharedInstance.successful = false;
+        getInstance().successful = false;
     }
 
     public static void reportCustomError(int errorCode, String additionalMessage, Object... parameters) {
         String errorMessage = String.format(ErrorRepository.getErrorMessage(errorCode) + " " + additionalMessage, parameters);
-        System.out.println("ERROR: " + errorMessage);
+        Log.e(TAG, errorMessage);
         //View.printInConsole("ERROR: " + errorMessage + "\n");
 
         String s[] = errorMessage.split("line [0-9]+");
@@ -70,15 +66,15 @@ public class BuildChecker implements ANTLRErrorListener {
         baracoError.setLineLayout(line);
         baracoError.setErrorSuffix(s[1]);
 
-        View.appendErrorInConsole(baracoError);
+        Console.printError(baracoError);
 
-        sharedInstance.successful = false;
+        getInstance().successful = false;
     }
 
     @Override
     public void syntaxError(Recognizer<?, ?> recognizer, Object o, int i, int i1, String s, RecognitionException e) {
-        System.out.println("ERROR: " + "Syntax error at line " + i + ":" + i1 + ". " + s);
-        View.printInConsole("ERROR: " + "Syntax error at line " + i + ":" + i1 + ". " + s);
+        Log.e(TAG, "Syntax error at line " + i + ":" + i1 + ". " + s);
+        Console.print("ERROR: " + "Syntax error at line " + i + ":" + i1 + ". " + s);
 
         this.successful = false;
     }
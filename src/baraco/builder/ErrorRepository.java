@@ -14,13 +14,17 @@ public class ErrorRepository {
     public final static int RUNTIME_ARRAY_OUT_OF_BOUNDS = 7000;
     public final static int RUNTIME_NEGATIVE_ARRAY_SIZE = 7001;
     public final static int RUNTIME_ARITHMETIC_EXCEPTION = 7002;
+    public final static int RUNTIME_STATEMENT_LIMIT = 7100;
+    public final static int RUNTIME_TIMEOUT = 7101;
+    public final static int RUNTIME_CALL_DEPTH_LIMIT = 7102;
+    public final static int RUNTIME_STOPPED = 7103;
     public final static int MISSING_THIS_KEYWORD = 8000;
     public final static int RETURN_IN_VOID = 9000;
     public final static int INVALID_INDEX_ASSIGN = 9001;
     public final static int NO_RETURN_STATEMENT = 9002;
     public final static int NOT_A_STATEMENT = 9004;
 
-    private static ErrorRepository sharedInstance = null;
+    private final static ErrorRepository sharedInstance = new ErrorRepository(); //never modified after it is populated, so it is shared by all contexts
 
     private HashMap<Integer, String> errorMessageDictionary;
 
@@ -41,6 +45,10 @@ public class ErrorRepository {
         this.errorMessageDictionary.put(RUNTIME_ARRAY_OUT_OF_BOUNDS, "Array out of bounds at line %d. Aborting operation. ");
         this.errorMessageDictionary.put(RUNTIME_ARITHMETIC_EXCEPTION, "Arithmetic exception at line %d. Aborting operation. ");
         this.errorMessageDictionary.put(RUNTIME_NEGATIVE_ARRAY_SIZE, "Negative array size at line %d. Aborting operation. ");
+        this.errorMessageDictionary.put(RUNTIME_STATEMENT_LIMIT, "Statement limit reached. Execution stopped.");
+        this.errorMessageDictionary.put(RUNTIME_TIMEOUT, "Time limit reached. Execution stopped.");
+        this.errorMessageDictionary.put(RUNTIME_CALL_DEPTH_LIMIT, "Call depth limit reached. Execution stopped.");
+        this.errorMessageDictionary.put(RUNTIME_STOPPED, "Execution stopped.");
         this.errorMessageDictionary.put(MISSING_THIS_KEYWORD, "Missing 'this' keyword for method call %s line %d.");
         this.errorMessageDictionary.put(RETURN_IN_VOID, "You can't return a value in a void function in line %d.");
         this.errorMessageDictionary.put(INVALID_INDEX_ASSIGN, "Invalid index in array assignment at line %d.");
@@ -48,15 +56,6 @@ public class ErrorRepository {
         this.errorMessageDictionary.put(NOT_A_STATEMENT, "%s is not a statement at line %d.");
     }
 
-    public static void initialize() {
-        sharedInstance = new ErrorRepository();
-    }
-
-    public static void reset() {
-        sharedInstance.errorMessageDictionary.clear();
-        sharedInstance.populateErrorMessages();
-    }
-
     public static String getErrorMessage(int errorCode) {
         return sharedInstance.errorMessageDictionary.getOrDefault(errorCode, "Error code "+errorCode+ " not found.");
     }
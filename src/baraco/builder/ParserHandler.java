@@ -4,48 +4,93 @@ import baraco.antlr.error.BaracoErrorListener;
 import baraco.antlr.lexer.BaracoLexer;
 import baraco.antlr.parser.BaracoBaseListener;
 import baraco.antlr.parser.BaracoParser;
+import baraco.execution.ExecutionContext;
+import baraco.semantics.searching.VariableReference;
+import baraco.utils.logging.Log;
+import baraco.utils.metrics.InterpreterMetrics;
+import baraco.utils.recording.BuildEvent;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ParserHandler {
 
     private final static String TAG = "ParserHandler";
-    private static ParserHandler sharedInstance = null;
 
     public static ParserHandler getInstance() {
-        if(sharedInstance == null) {
-            sharedInstance = new ParserHandler();
-        }
-
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getParserHandler();
     }
 
     private BaracoLexer sharedLexer;
     private BaracoParser sharedParser;
 
     private String currentClassName; //the current class being parsed
+    private List<VariableReference> pendingReferences = new ArrayList<VariableReference>(); //variable uses to bind after parsing
 
-    private ParserHandler() {
+    public ParserHandler() {
 
     }
 
     public void parseText(String className, String textToParse) {
         this.currentClassName = className.replace(".bara", "");
-        this.sharedLexer = new BaracoLexer(new ANTLRInputStream(textToParse));
-        CommonTokenStream tokens = new CommonTokenStream(this.sharedLexer);
-        this.sharedParser = new BaracoParser(tokens);
-        this.sharedParser.removeErrorListeners();
-        this.sharedParser.addErrorListener(new BaracoErrorListener());
+        this.pendingReferences.clear();
+
+        BuildEvent buildEvent = new BuildEvent(this.currentClassName, textToParse.length());
+        buildEvent.begin();
+        long buildStart = System.nanoTime();
+        long parseNanos = 0;
+
+        try {
+            this.sharedLexer = new BaracoLexer(new ANTLRInputStream(textToParse));
+            CommonTokenStream tokens = new CommonTokenStream(this.sharedLexer);
+            this.sharedParser = new BaracoParser(tokens);
+            this.sharedParser.removeErrorListeners();
+            this.sharedParser.addErrorListener(new BaracoErrorListener());
+
+            ParserRuleContext parserRuleContext = this.sharedParser.compilationUnit();
+            parseNanos = System.nanoTime() - buildStart;
+
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, parserRuleContext.toStringTree(this.sharedParser));
+            }
+
+            ParseTreeWalker treeWalker = new ParseTreeWalker();
+            treeWalker.walk(new BaracoBaseListener(), parserRuleContext);
+
+            this.resolveReferences();
+        }
+        finally {
+            boolean successful = BuildChecker.getInstance().canExecute();
 
-        ParserRuleContext parserRuleContext = this.sharedParser.compilationUnit();
-        System.out.println("DEBUG: " + parserRuleContext.toStringTree(this.sharedParser));
+            InterpreterMetrics.getInstance().reportBuild(parseNanos, System.nanoTime() - buildStart, successful);
+            buildEvent.setSuccessful(successful);
+            buildEvent.commit();
+        }
+
+        Log.i(TAG, "Finished parsing. Compiled executables. Click RUN to execute");
+    }
+
+    /*
+     * Reports a variable use found while building the commands. It is bound once all declarations are known.
+     */
+    public void addPendingReference(VariableReference variableReference) {
+        this.pendingReferences.add(variableReference);
+    }
 
-        ParseTreeWalker treeWalker = new ParseTreeWalker();
-        treeWalker.walk(new BaracoBaseListener(), parserRuleContext);
+    /*
+     * Resolution pass. Binds every variable use to its declaration so that no name lookup happens at runtime.
+     * Runs at the end of parseText(). Commands compiled afterwards against the same symbol tables need another pass.
+     */
+    public void resolveReferences() {
+        for(VariableReference variableReference : this.pendingReferences) {
+            variableReference.resolve();
+        }
 
-        System.out.println("Finished parsing. Compiled executables. Click RUN to execute");
+        this.pendingReferences.clear();
     }
 
     /*
@@ -11,6 +11,7 @@ import baraco.representations.BaracoValue;
 import baraco.semantics.searching.VariableSearcher;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.ClassScope;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -20,6 +21,8 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 
 public class UndeclaredChecker implements IErrorChecker, ParseTreeListener{
 
+    private final static String TAG = "UndeclaredChecker";
+
     private BaracoParser.ExpressionContext exprCtx;
     private String prevFunctionName = "";
     private int lineNumber;
@@ -57,13 +60,17 @@ public class UndeclaredChecker implements IErrorChecker, ParseTreeListener{
         if(ctx instanceof BaracoParser.ExpressionContext) {
             BaracoParser.ExpressionContext exprCtx = (BaracoParser.ExpressionContext) ctx;
             if(EvaluationCommand.isFunctionCall(exprCtx)) {
-                System.out.println("FUNCTION ENTER " + ctx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "FUNCTION ENTER " + ctx.getText());
+                }
                 String s[] = exprCtx.getText().split("\\(");
                 prevFunctionName = s[0];
                 this.verifyFunctionCall(exprCtx);
             }
             else if(EvaluationCommand.isVariableOrConst(exprCtx)) {
-                System.out.println("VARIABLE ENTER " + ctx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "VARIABLE ENTER " + ctx.getText());
+                }
                 if(!prevFunctionName.equals(exprCtx.getText()))
                     this.verifyVariableOrConst(exprCtx);
             }
@@ -0,0 +1,429 @@
+package baraco.cli;
+
+import baraco.antlr.error.BaracoError;
+import baraco.builder.BuildChecker;
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionCancelledException;
+import baraco.execution.ExecutionContext;
+import baraco.execution.ExecutionLimits;
+import baraco.execution.ExecutionManager;
+import baraco.execution.ExecutionThreadFactory;
+import baraco.execution.MethodTracker;
+import baraco.execution.profiling.LineProfile;
+import baraco.execution.profiling.MethodProfile;
+import baraco.execution.profiling.Profiler;
+import baraco.semantics.expressions.ArithmeticMode;
+import baraco.semantics.statements.StatementControlOverseer;
+import baraco.semantics.symboltable.SymbolTableManager;
+import baraco.semantics.symboltable.scopes.LocalScopeCreator;
+import baraco.utils.console.Console;
+import baraco.utils.console.IOutputSink;
+import baraco.utils.console.OutputBuffer;
+import baraco.utils.console.OverflowPolicy;
+import baraco.utils.console.StandardOutputSink;
+import baraco.utils.logging.Log;
+import baraco.utils.logging.LogLevel;
+import baraco.utils.metrics.InterpreterMetrics;
+import baraco.utils.notifications.NotificationCenter;
+import baraco.utils.notifications.NotificationListener;
+import baraco.utils.notifications.Notifications;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds and runs a Baraco program without the IDE. Output is written to standard output, errors to standard
+ * error, and scan statements read from standard input. No JavaFX class is loaded.
+ *
+ * Several files can be given at once, for example to grade a directory of submissions. Each one is built and run
+ * in its own execution context on a pool of worker threads, and its output is printed once it has finished, in the
+ * order the files were given. Scan statements get no input in this mode.
+ *
+ * With --virtual-threads, programs run on virtual threads when the JVM supports them.
+ *
+ * Each run can be limited to a number of executed statements, a wall-clock time in milliseconds and a call depth.
+ * A program that reaches a limit is stopped, its output so far is kept, and the limit is reported as an error.
+ *
+ * With --profile n, the n lines with the most time spent in them and the time spent in each method are printed
+ * to standard error after the program has finished.
+ *
+ * With --arithmetic arbitrary, numeric expressions are evaluated with arbitrary precision instead of int and double
+ * arithmetic. The default is native, or the value of -Dbaraco.arithmetic.
+ *
+ * Usage: java baraco.cli.BaracoRunner [--log debug|info|warn|error] [--jobs n] [--virtual-threads]
+ *        [--max-statements n] [--timeout ms] [--max-depth n] [--profile n] [--arithmetic native|arbitrary]
+ *        File.bara...
+ */
+public class BaracoRunner {
+
+    private final static String TAG = "BaracoRunner";
+
+    public final static int EXIT_SUCCESS = 0;
+    public final static int EXIT_RUNTIME_ERROR = 1;
+    public final static int EXIT_BUILD_FAILED = 2;
+    public final static int EXIT_INPUT_EXHAUSTED = 3;
+    public final static int EXIT_LIMIT_EXCEEDED = 4;
+    public final static int EXIT_USAGE = 64;
+
+    private final InputStream inputStream;
+    private final ExecutionLimits executionLimits;
+
+    private int profiledLines = 0; //0 if the program is not profiled
+    private String profileReport = null;
+    private ArithmeticMode arithmeticMode = ArithmeticMode.fromSystemProperties();
+
+    private volatile boolean inputExhausted = false;
+
+    public BaracoRunner(InputStream inputStream) {
+        this(inputStream, ExecutionLimits.fromSystemProperties());
+    }
+
+    public BaracoRunner(InputStream inputStream, ExecutionLimits executionLimits) {
+        this.inputStream = inputStream;
+        this.executionLimits = executionLimits;
+    }
+
+    /*
+     * Profiles the next runs, reporting the given number of lines. 0 turns profiling off.
+     */
+    public void setProfiledLines(int profiledLines) {
+        this.profiledLines = profiledLines;
+    }
+
+    /*
+     * Sets how the numeric expressions of the next runs are evaluated.
+     */
+    public void setArithmeticMode(ArithmeticMode arithmeticMode) {
+        this.arithmeticMode = arithmeticMode;
+    }
+
+    /*
+     * Returns the profile of the last run, or null if it was not profiled or could not be executed.
+     */
+    public String getProfileReport() {
+        return this.profileReport;
+    }
+
+    public static void main(String[] args) {
+        List<Path> paths = new ArrayList<Path>();
+        int jobs = Runtime.getRuntime().availableProcessors();
+        ExecutionLimits executionLimits = ExecutionLimits.fromSystemProperties();
+        int profiledLines = 0;
+        ArithmeticMode arithmeticMode = ArithmeticMode.fromSystemProperties();
+
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--log") && i + 1 < args.length) {
+                try {
+                    Log.setLevel(LogLevel.valueOf(args[++i].toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    printUsage();
+                    System.exit(EXIT_USAGE);
+                }
+            }
+            else if(args[i].equals("--jobs") && i + 1 < args.length) {
+                try {
+                    jobs = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    jobs = 0;
+                }
+
+                if(jobs < 1) {
+                    printUsage();
+                    System.exit(EXIT_USAGE);
+                }
+            }
+            else if((args[i].equals("--max-statements") || args[i].equals("--timeout") || args[i].equals("--max-depth")) &&
+                    i + 1 < args.length) {
+                String option = args[i];
+                long limit;
+
+                try {
+                    limit = Long.parseLong(args[++i]);
+                } catch (NumberFormatException e) {
+                    limit = -1;
+                }
+
+                if(limit < 0 || (option.equals("--max-depth") && limit > Integer.MAX_VALUE)) {
+                    printUsage();
+                    System.exit(EXIT_USAGE);
+                }
+
+                if(option.equals("--max-statements")) {
+                    executionLimits = executionLimits.withMaxStatements(limit);
+                }
+                else if(option.equals("--timeout")) {
+                    executionLimits = executionLimits.withTimeoutMillis(limit);
+                }
+                else {
+                    executionLimits = executionLimits.withMaxCallDepth((int) limit);
+                }
+            }
+            else if(args[i].equals("--profile") && i + 1 < args.length) {
+                try {
+                    profiledLines = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    profiledLines = 0;
+                }
+
+                if(profiledLines < 1) {
+                    printUsage();
+                    System.exit(EXIT_USAGE);
+                }
+            }
+            else if(args[i].equals("--arithmetic") && i + 1 < args.length) {
+                try {
+                    arithmeticMode = ArithmeticMode.valueOf(args[++i].toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    printUsage();
+                    System.exit(EXIT_USAGE);
+                }
+            }
+            else if(args[i].equals("--virtual-threads")) {
+                ExecutionThreadFactory.setUseVirtualThreads(true);
+            }
+            else if(!args[i].startsWith("--")) {
+                paths.add(Paths.get(args[i]));
+            }
+            else {
+                printUsage();
+                System.exit(EXIT_USAGE);
+            }
+        }
+
+        if(paths.isEmpty()) {
+            printUsage();
+            System.exit(EXIT_USAGE);
+        }
+
+        InterpreterMetrics.register();
+
+        List<String> sources = new ArrayList<String>();
+
+        for(Path path : paths) {
+            try {
+                sources.add(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                System.err.println("Cannot read " + path + ": " + e.getMessage());
+                System.exit(EXIT_USAGE);
+                return;
+            }
+        }
+
+        int exitCode;
+
+        if(paths.size() == 1) {
+            BaracoRunner runner = new BaracoRunner(System.in, executionLimits);
+            runner.setProfiledLines(profiledLines);
+            runner.setArithmeticMode(arithmeticMode);
+            exitCode = runner.run(paths.get(0).getFileName().toString(), sources.get(0));
+
+            if(runner.getProfileReport() != null) {
+                System.err.print(runner.getProfileReport());
+            }
+        }
+        else {
+            exitCode = runAll(paths, sources, jobs, executionLimits, profiledLines, arithmeticMode);
+        }
+
+        System.exit(exitCode);
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: baraco.cli.BaracoRunner [--log debug|info|warn|error] [--jobs n] [--virtual-threads] " +
+                "[--max-statements n] [--timeout ms] [--max-depth n] [--profile n] [--arithmetic native|arbitrary] File.bara...");
+    }
+
+    /*
+     * Runs every file in its own execution context, at most jobs at a time. The output of each program is held
+     * until it finishes, then printed after a header with its file name, followed by its profile if it was profiled.
+     * Returns the highest exit code.
+     */
+    private static int runAll(List<Path> paths, List<String> sources, int jobs, ExecutionLimits executionLimits, int profiledLines,
+                              ArithmeticMode arithmeticMode) {
+        ExecutorService workerPool = Executors.newFixedThreadPool(Math.min(jobs, paths.size()));
+        List<Future<Integer>> exitCodes = new ArrayList<Future<Integer>>();
+        List<OutputBuffer> outputs = new ArrayList<OutputBuffer>();
+        List<BaracoRunner> runners = new ArrayList<BaracoRunner>();
+
+        for(int i = 0; i < paths.size(); i++) {
+            String fileName = paths.get(i).getFileName().toString();
+            String source = sources.get(i);
+
+            ExecutionContext executionContext = new ExecutionContext();
+            OutputBuffer output = new OutputBuffer(Integer.MAX_VALUE, OverflowPolicy.DROP);
+            executionContext.setOutputSink(output);
+            outputs.add(output);
+
+            BaracoRunner runner = new BaracoRunner(new ByteArrayInputStream(new byte[0]), executionLimits);
+            runner.setProfiledLines(profiledLines);
+            runner.setArithmeticMode(arithmeticMode);
+            runners.add(runner);
+
+            exitCodes.add(workerPool.submit(() -> executionContext.call(() -> runner.run(fileName, source))));
+        }
+
+        IOutputSink standardOutput = new StandardOutputSink();
+        int highestExitCode = EXIT_SUCCESS;
+
+        try {
+            for(int i = 0; i < paths.size(); i++) {
+                int exitCode;
+
+                try {
+                    exitCode = exitCodes.get(i).get();
+                } catch (ExecutionException e) {
+                    Log.e(TAG, paths.get(i) + " failed: " + e.getCause());
+                    exitCode = EXIT_RUNTIME_ERROR;
+                }
+
+                standardOutput.print("==> " + paths.get(i) + " <==\n");
+                outputs.get(i).drainTo(standardOutput, Integer.MAX_VALUE);
+                standardOutput.print("\n==> exit " + exitCode + "\n");
+
+                if(runners.get(i).getProfileReport() != null) {
+                    System.err.print(runners.get(i).getProfileReport());
+                }
+
+                highestExitCode = Math.max(highestExitCode, exitCode);
+            }
+        } catch (InterruptedException e) {
+            Log.e(TAG, "Interrupted while waiting for the programs to finish");
+            Thread.currentThread().interrupt();
+        } finally {
+            workerPool.shutdownNow();
+        }
+
+        return highestExitCode;
+    }
+
+    /*
+     * Builds the given source and executes it if it has no errors. The file name has to match the class name.
+     * The program uses the execution context of the calling thread, which is reset first.
+     * Returns one of the EXIT_ codes.
+     */
+    public int run(String fileName, String source) {
+        ExecutionManager.reset();
+        LocalScopeCreator.reset();
+        SymbolTableManager.reset();
+        BuildChecker.reset();
+        StatementControlOverseer.reset();
+        MethodTracker.reset();
+        Profiler.reset();
+        ExecutionManager.getInstance().setExecutionLimits(this.executionLimits);
+        Profiler.getInstance().setEnabled(this.profiledLines > 0);
+        ExecutionContext.getCurrent().setArithmeticMode(this.arithmeticMode);
+        this.profileReport = null;
+        this.inputExhausted = false;
+
+        try {
+            ParserHandler.getInstance().parseText(fileName, source);
+        } catch (RuntimeException e) {
+            //the analyzers may fail on a tree that has syntax errors, which have already been reported
+            if(BuildChecker.getInstance().canExecute()) {
+                throw e;
+            }
+        }
+
+        if(!BuildChecker.getInstance().canExecute()) {
+            return EXIT_BUILD_FAILED;
+        }
+
+        CountDownLatch finished = new CountDownLatch(1);
+        NotificationListener finishedListener = (notificationString, params) -> finished.countDown();
+        NotificationCenter.getInstance().addObserver(Notifications.ON_EXECUTION_FINISHED, finishedListener);
+
+        StandardInputScanHandler scanHandler = new StandardInputScanHandler(this.inputStream, () -> {
+            this.inputExhausted = true;
+            finished.countDown();
+        });
+
+        try {
+            ExecutionManager.getInstance().executeAllActions();
+            finished.await();
+
+            if(this.inputExhausted) {
+                //nothing will answer the scan, so the program is stopped instead of being left waiting
+                ExecutionManager.getInstance().stopExecution();
+            }
+
+            ExecutionManager.getInstance().awaitExecution();
+        } catch (InterruptedException e) {
+            Log.e(TAG, "Interrupted while waiting for the program to finish");
+            Thread.currentThread().interrupt();
+        } finally {
+            scanHandler.close();
+            NotificationCenter.getInstance().removeObserver(Notifications.ON_EXECUTION_FINISHED, finishedListener);
+        }
+
+        if(this.profiledLines > 0) {
+            this.profileReport = formatProfile(fileName, source, this.profiledLines);
+        }
+
+        if(this.inputExhausted) {
+            //reported through the context's sink, so that with --jobs it follows the output of its own file
+            BaracoError inputError = new BaracoError();
+            inputError.setErrorPrefix("Standard input ended while the program was waiting for a scan.");
+            Console.printError(inputError);
+
+            return EXIT_INPUT_EXHAUSTED;
+        }
+
+        ExecutionCancelledException.Reason cancelReason = ExecutionManager.getInstance().getCancelReason();
+
+        if(cancelReason != null && cancelReason != ExecutionCancelledException.Reason.STOPPED) {
+            return EXIT_LIMIT_EXCEEDED;
+        }
+
+        return ExecutionManager.getInstance().isAborted() ? EXIT_RUNTIME_ERROR : EXIT_SUCCESS;
+    }
+
+    /*
+     * Formats the lines with the most exclusive time, with their source, and every method called.
+     * Exclusive (self) time leaves out the time spent in nested statements and calls, inclusive (total) time does not.
+     */
+    private static String formatProfile(String fileName, String source, int profiledLines) {
+        Profiler profiler = Profiler.getInstance();
+        String[] sourceLines = source.split("\\r?\\n", -1);
+        StringBuilder report = new StringBuilder();
+
+        report.append("==> profile of ").append(fileName).append(" <==\n");
+        report.append(String.format("%6s %10s %10s %10s  %s%n", "line", "count", "self ms", "total ms", "source"));
+
+        for(LineProfile lineProfile : profiler.getHotLines(profiledLines)) {
+            int lineNumber = lineProfile.getLineNumber();
+            String sourceLine = lineNumber >= 1 && lineNumber <= sourceLines.length ? sourceLines[lineNumber - 1].trim() : "";
+
+            report.append(String.format("%6d %10d %10.3f %10.3f  %s%n", lineNumber, lineProfile.getExecutionCount(),
+                    toMillis(lineProfile.getExclusiveNanos()), toMillis(lineProfile.getInclusiveNanos()), sourceLine));
+        }
+
+        List<MethodProfile> methodProfiles = profiler.getMethodProfiles();
+
+        if(!methodProfiles.isEmpty()) {
+            report.append(String.format("%n%-20s %10s %10s %10s%n", "method", "calls", "self ms", "total ms"));
+
+            for(MethodProfile methodProfile : methodProfiles) {
+                report.append(String.format("%-20s %10d %10.3f %10.3f%n", methodProfile.getMethodName(), methodProfile.getCallCount(),
+                        toMillis(methodProfile.getExclusiveNanos()), toMillis(methodProfile.getInclusiveNanos())));
+            }
+        }
+
+        return report.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1000000.0;
+    }
+}
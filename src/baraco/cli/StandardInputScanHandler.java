@@ -0,0 +1,90 @@
+package baraco.cli;
+
+import baraco.execution.ExecutionContext;
+import baraco.utils.console.Console;
+import baraco.utils.logging.Log;
+import baraco.utils.notifications.KeyNames;
+import baraco.utils.notifications.NotificationCenter;
+import baraco.utils.notifications.NotificationListener;
+import baraco.utils.notifications.Notifications;
+import baraco.utils.notifications.Parameters;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Answers scan statements with lines read from an input stream, taking the place of the scan dialog of the IDE.
+ */
+public class StandardInputScanHandler implements NotificationListener {
+
+    private final static String TAG = "StandardInputScanHandler";
+
+    private final BufferedReader reader;
+    private final Runnable onInputExhausted;
+    private final ExecutorService inputExecutor;
+    private final ExecutionContext executionContext;
+
+    /*
+     * Listens to the scan statements of the programs run in the execution context of the calling thread.
+     */
+    public StandardInputScanHandler(InputStream inputStream, Runnable onInputExhausted) {
+        this.executionContext = ExecutionContext.getCurrent();
+        this.reader = new BufferedReader(new InputStreamReader(inputStream));
+        this.onInputExhausted = onInputExhausted;
+        this.inputExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "baraco-scan");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.executionContext.getNotificationCenter().addObserver(Notifications.ON_FOUND_SCAN_STATEMENT, this);
+    }
+
+    /*
+     * Stops listening to scan statements. Call this once the program has finished.
+     */
+    public void close() {
+        this.executionContext.getNotificationCenter().removeObserver(Notifications.ON_FOUND_SCAN_STATEMENT, this);
+        this.inputExecutor.shutdownNow();
+    }
+
+    /*
+     * Reads the next line and reports it back to the scan command. Like the scan dialog, the value is
+     * reported from another thread, after the scan command has blocked the execution thread.
+     */
+    private void readInput(String messageToDisplay) {
+        Console.print(messageToDisplay);
+
+        String valueEntered;
+
+        try {
+            valueEntered = this.reader.readLine();
+        } catch (IOException e) {
+            Log.e(TAG, "Could not read input: " + e.getMessage());
+            valueEntered = null;
+        }
+
+        if(valueEntered == null) {
+            this.onInputExhausted.run();
+            return;
+        }
+
+        Parameters parameters = new Parameters();
+        parameters.putExtra(KeyNames.VALUE_ENTERED_KEY, valueEntered);
+
+        NotificationCenter.getInstance().postNotification(Notifications.ON_SCAN_DIALOG_DISMISSED, parameters); //report back results to scan command
+    }
+
+    @Override
+    public void onNotify(String notificationString, Parameters params) {
+        if(notificationString == Notifications.ON_FOUND_SCAN_STATEMENT) {
+            String messageToDisplay = params.getStringExtra(KeyNames.MESSAGE_DISPLAY_KEY, "Input: ");
+
+            this.inputExecutor.execute(() -> this.executionContext.run(() -> this.readInput(messageToDisplay)));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import baraco.builder.BuildChecker;
 import baraco.builder.ParserHandler;
 import baraco.execution.ExecutionManager;
 import baraco.execution.MethodTracker;
+import baraco.execution.profiling.Profiler;
 import baraco.antlr.lexer.BaracoLexer;
 import baraco.antlr.parser.BaracoBaseListener;
 import baraco.antlr.parser.BaracoListener;
@@ -14,7 +15,7 @@ import baraco.ide.View;
 import baraco.semantics.statements.StatementControlOverseer;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.LocalScopeCreator;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -29,6 +30,8 @@ import java.util.regex.Pattern;
 
 public class Controller {
 
+    private final static String TAG = "Controller";
+
     private View view;
 
     public Controller(View view) {
@@ -52,27 +55,27 @@ public class Controller {
     public void run(String input, String fileName) {
         // Perform interpretation
 
+        this.stopPreviousRun();
         ExecutionManager.reset();
         LocalScopeCreator.reset();
         SymbolTableManager.reset();
         BuildChecker.reset();
         StatementControlOverseer.reset();
         MethodTracker.reset();
-        LocalVarTracker.reset();
+        Profiler.reset();
 
         view.resetConsole();
-
-        System.out.println(input);
+        view.hideProfileHeatmap();
 
         ParserHandler.getInstance().parseText(fileName, input);
 
         if(BuildChecker.getInstance().canExecute()) {
             ExecutionManager.getInstance().executeAllActions();
-            System.out.println("BuildChecker executed");
+            Log.d(TAG, "BuildChecker executed");
             //this.mViewPager.setCurrentItem(1);
         }
         else {
-            System.out.println("Fix identified errors before executing!");
+            Log.d(TAG, "Fix identified errors before executing!");
         }
 
         /*String output = "";
@@ -105,6 +108,29 @@ public class Controller {
 
     }
 
+    /*
+     * Stops the running program, if any. What it has printed so far stays in the console.
+     */
+    public void stop() {
+        ExecutionManager.getInstance().stopExecution();
+    }
+
+    /*
+     * Stops a program that is still running and waits for it to end, so that it does not touch the state of the next run.
+     */
+    private void stopPreviousRun() {
+        if(ExecutionManager.getInstance().isExecuting()) {
+            ExecutionManager.getInstance().stopExecution();
+            view.resetConsole(); //releases the program if it is waiting for room in the console
+
+            try {
+                ExecutionManager.getInstance().awaitExecution();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     public void buildOnly(String input, String fileName) {
         ExecutionManager.reset();
         LocalScopeCreator.reset();
@@ -112,9 +138,7 @@ public class Controller {
         BuildChecker.reset();
         StatementControlOverseer.reset();
         MethodTracker.reset();
-        LocalVarTracker.reset();
-
-        System.out.println(input);
+        Profiler.reset();
 
         ParserHandler.getInstance().parseText(fileName, input);
     }
@@ -0,0 +1,41 @@
+package baraco.execution;
+
+import baraco.builder.ErrorRepository;
+
+/**
+ * Thrown on the execution thread when a run is cancelled, either because it reached one of its
+ * {@link ExecutionLimits} or because it was stopped. It unwinds every loop and method call up to the
+ * {@link ExecutionThread}, which reports the reason.
+ */
+public class ExecutionCancelledException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        STATEMENT_LIMIT(ErrorRepository.RUNTIME_STATEMENT_LIMIT),
+        TIMEOUT(ErrorRepository.RUNTIME_TIMEOUT),
+        CALL_DEPTH_LIMIT(ErrorRepository.RUNTIME_CALL_DEPTH_LIMIT),
+        STOPPED(ErrorRepository.RUNTIME_STOPPED);
+
+        private final int errorCode;
+
+        Reason(int errorCode) {
+            this.errorCode = errorCode;
+        }
+
+        public int getErrorCode() {
+            return this.errorCode;
+        }
+    }
+
+    private final Reason reason;
+
+    public ExecutionCancelledException(Reason reason) {
+        super(reason.toString(), null, false, false); //thrown as control flow, so no stack trace is needed
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return this.reason;
+    }
+}
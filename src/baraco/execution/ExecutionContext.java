@@ -0,0 +1,186 @@
+package baraco.execution;
+
+import baraco.builder.BuildChecker;
+import baraco.builder.ParserHandler;
+import baraco.execution.commands.MethodList;
+import baraco.execution.profiling.Profiler;
+import baraco.semantics.expressions.ArithmeticMode;
+import baraco.semantics.optimization.PassManager;
+import baraco.semantics.statements.StatementControlOverseer;
+import baraco.semantics.symboltable.SymbolTableManager;
+import baraco.semantics.symboltable.scopes.LocalScopeCreator;
+import baraco.utils.console.IOutputSink;
+import baraco.utils.notifications.NotificationCenter;
+import baraco.utils.notifications.Notifications;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Owns the state needed to build and run one Baraco program: the symbol tables, the build checker, the execution
+ * manager and the other managers that used to be static singletons. Their getInstance() methods return the instance
+ * of the context bound to the calling thread, or of the default context if none is bound. The IDE uses the default
+ * context, while several programs can be built and run at the same time by giving each one its own context.
+ */
+public class ExecutionContext {
+
+    private final static String TAG = "ExecutionContext";
+
+    private final static ExecutionContext defaultContext = new ExecutionContext();
+    private final static ThreadLocal<ExecutionContext> boundContext = new ThreadLocal<ExecutionContext>();
+
+    private final NotificationCenter notificationCenter;
+    private final SymbolTableManager symbolTableManager;
+    private final BuildChecker buildChecker;
+    private final ExecutionManager executionManager;
+    private final LocalScopeCreator localScopeCreator;
+    private final StatementControlOverseer statementControlOverseer;
+    private final MethodTracker methodTracker;
+    private final ParserHandler parserHandler;
+    private final MethodList methodList;
+    private final Profiler profiler;
+    private final PassManager passManager;
+
+    private volatile IOutputSink outputSink = null; //null means the sink set through Console
+    private volatile ArithmeticMode arithmeticMode = ArithmeticMode.fromSystemProperties();
+
+    public ExecutionContext() {
+        this.notificationCenter = new NotificationCenter();
+        this.symbolTableManager = new SymbolTableManager();
+        this.buildChecker = new BuildChecker();
+        this.executionManager = new ExecutionManager(this);
+        this.localScopeCreator = new LocalScopeCreator();
+        this.statementControlOverseer = new StatementControlOverseer();
+        this.methodTracker = new MethodTracker();
+        this.parserHandler = new ParserHandler();
+        this.methodList = new MethodList();
+        this.profiler = new Profiler();
+        this.passManager = new PassManager();
+
+        this.notificationCenter.addObserver(Notifications.ON_EXECUTION_FINISHED, this.executionManager);
+    }
+
+    /*
+     * Returns the context bound to the calling thread, or the default context if none is bound.
+     */
+    public static ExecutionContext getCurrent() {
+        ExecutionContext context = boundContext.get();
+
+        return context != null ? context : defaultContext;
+    }
+
+    public static ExecutionContext getDefault() {
+        return defaultContext;
+    }
+
+    /*
+     * Binds this context to the calling thread until unbind() is called. Threads spawned for this context,
+     * like the execution thread, bind it themselves.
+     */
+    public void bind() {
+        boundContext.set(this);
+    }
+
+    public static void unbind() {
+        boundContext.remove();
+    }
+
+    /*
+     * Runs the task with this context bound to the calling thread, then restores the previously bound context.
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        ExecutionContext previousContext = boundContext.get();
+        boundContext.set(this);
+
+        try {
+            return task.call();
+        }
+        finally {
+            if(previousContext != null) {
+                boundContext.set(previousContext);
+            }
+            else {
+                boundContext.remove();
+            }
+        }
+    }
+
+    public void run(Runnable task) {
+        try {
+            this.call(() -> {
+                task.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e); //a runnable cannot throw a checked exception
+        }
+    }
+
+    public NotificationCenter getNotificationCenter() {
+        return this.notificationCenter;
+    }
+
+    public SymbolTableManager getSymbolTableManager() {
+        return this.symbolTableManager;
+    }
+
+    public BuildChecker getBuildChecker() {
+        return this.buildChecker;
+    }
+
+    public ExecutionManager getExecutionManager() {
+        return this.executionManager;
+    }
+
+    public LocalScopeCreator getLocalScopeCreator() {
+        return this.localScopeCreator;
+    }
+
+    public StatementControlOverseer getStatementControlOverseer() {
+        return this.statementControlOverseer;
+    }
+
+    public MethodTracker getMethodTracker() {
+        return this.methodTracker;
+    }
+
+    public ParserHandler getParserHandler() {
+        return this.parserHandler;
+    }
+
+    public MethodList getMethodList() {
+        return this.methodList;
+    }
+
+    public Profiler getProfiler() {
+        return this.profiler;
+    }
+
+    public PassManager getPassManager() {
+        return this.passManager;
+    }
+
+    /*
+     * Sets where the output of the program in this context goes. If not set, output goes to the sink of the Console.
+     */
+    public void setOutputSink(IOutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    public IOutputSink getOutputSink() {
+        return this.outputSink;
+    }
+
+    /*
+     * Sets how the numeric expressions of this context are evaluated. Expressions read the mode when they are
+     * compiled, so it has to be set before the program is built.
+     */
+    public void setArithmeticMode(ArithmeticMode arithmeticMode) {
+        this.arithmeticMode = arithmeticMode;
+    }
+
+    public ArithmeticMode getArithmeticMode() {
+        return this.arithmeticMode;
+    }
+}
@@ -0,0 +1,65 @@
+package baraco.execution;
+
+/**
+ * Limits on a single run of a program. A limit of 0 means unlimited. When a limit is reached, the run is cancelled
+ * and the reason is reported as a runtime error.
+ *
+ * The defaults can be set with -Dbaraco.limit.statements, -Dbaraco.limit.timeout (in milliseconds) and
+ * -Dbaraco.limit.depth.
+ */
+public class ExecutionLimits {
+
+    public final static ExecutionLimits NONE = new ExecutionLimits(0, 0, 0);
+
+    private final long maxStatements;
+    private final long timeoutMillis;
+    private final int maxCallDepth;
+
+    public ExecutionLimits(long maxStatements, long timeoutMillis, int maxCallDepth) {
+        if(maxStatements < 0 || timeoutMillis < 0 || maxCallDepth < 0) {
+            throw new IllegalArgumentException("Execution limits cannot be negative");
+        }
+
+        this.maxStatements = maxStatements;
+        this.timeoutMillis = timeoutMillis;
+        this.maxCallDepth = maxCallDepth;
+    }
+
+    public static ExecutionLimits fromSystemProperties() {
+        return new ExecutionLimits(Long.getLong("baraco.limit.statements", 0), Long.getLong("baraco.limit.timeout", 0),
+                Integer.getInteger("baraco.limit.depth", 0));
+    }
+
+    /*
+     * The number of statements that may be executed, counting every statement of every loop iteration and method call.
+     */
+    public long getMaxStatements() {
+        return this.maxStatements;
+    }
+
+    /*
+     * The wall-clock time, in milliseconds, that the run may take. Time spent waiting for scan input counts.
+     */
+    public long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /*
+     * The number of method calls that may be active at the same time.
+     */
+    public int getMaxCallDepth() {
+        return this.maxCallDepth;
+    }
+
+    public ExecutionLimits withMaxStatements(long maxStatements) {
+        return new ExecutionLimits(maxStatements, this.timeoutMillis, this.maxCallDepth);
+    }
+
+    public ExecutionLimits withTimeoutMillis(long timeoutMillis) {
+        return new ExecutionLimits(this.maxStatements, timeoutMillis, this.maxCallDepth);
+    }
+
+    public ExecutionLimits withMaxCallDepth(int maxCallDepth) {
+        return new ExecutionLimits(this.maxStatements, this.timeoutMillis, maxCallDepth);
+    }
+}
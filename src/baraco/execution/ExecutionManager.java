@@ -7,7 +7,9 @@ import baraco.execution.adders.MainExecutionAdder;
 import baraco.execution.adders.MethodExecutionAdder;
 import baraco.execution.commands.ICommand;
 import baraco.execution.commands.controlled.IAttemptCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.representations.BaracoMethod;
+import baraco.utils.logging.Log;
 import baraco.utils.notifications.NotificationCenter;
 import baraco.utils.notifications.Notifications;
 import baraco.utils.notifications.Parameters;
@@ -19,18 +21,19 @@ public class ExecutionManager implements NotificationListener {
 
     private final static String TAG = "ExecutionManager";
 
-    private static ExecutionManager sharedInstance = null;
-
     public static ExecutionManager getInstance() {
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getExecutionManager();
     }
 
+    private final ExecutionContext executionContext;
+
     private ArrayList<ICommand> executionList = new ArrayList<ICommand>();
     private boolean foundEntryPoint = false;
     private String entryClassName = null;
 
-    private ExecutionThread executionThread;
-    private ExecutionMonitor executionMonitor;
+    private volatile Thread executionThread; //volatile since a run can be stopped from another thread
+    private volatile ExecutionMonitor executionMonitor;
+    private ExecutionLimits executionLimits = ExecutionLimits.fromSystemProperties();
 
     private IExecutionAdder activeExecutionAdder;
     private MainExecutionAdder mainExecutionAdder;
@@ -41,17 +44,14 @@ public class ExecutionManager implements NotificationListener {
     private boolean aborted = false;
     private int currentCheckedLineNumber = -1;
 
-    private ExecutionManager() {
+    ExecutionManager(ExecutionContext executionContext) {
+        this.executionContext = executionContext;
         this.mainExecutionAdder = new MainExecutionAdder(this.executionList);
         this.activeExecutionAdder = this.mainExecutionAdder;
     }
 
-    public static void initialize() {
-        sharedInstance = new ExecutionManager();
-        NotificationCenter.getInstance().addObserver(Notifications.ON_EXECUTION_FINISHED, sharedInstance);
-    }
-
     public static void reset() {
+        ExecutionManager sharedInstance = getInstance();
         sharedInstance.foundEntryPoint = false;
         sharedInstance.entryClassName = null;
         sharedInstance.clearAllActions();
@@ -160,7 +160,7 @@ public class ExecutionManager implements NotificationListener {
             return functionExecAdder.getAssignedFunction();
         }
         else {
-            System.out.println(TAG + ": " + "Execution manager is not in a function!");
+            Log.w(TAG, "Execution manager is not in a function!");
             return null;
         }
     }
@@ -191,11 +191,92 @@ public class ExecutionManager implements NotificationListener {
      * This causes the execution thread to temporarily halt until released.
      */
     public void executeAllActions() {
-        this.executionMonitor = new ExecutionMonitor();
-        this.executionThread = new ExecutionThread(this.executionList, this.executionMonitor);
+        Profiler profiler = this.executionContext.getProfiler();
+
+        if(profiler.isEnabled()) {
+            profiler.startRun();
+            this.executionMonitor = new ExecutionMonitor(this.executionLimits, profiler);
+        }
+        else {
+            this.executionMonitor = new ExecutionMonitor(this.executionLimits);
+        }
+
+        this.executionThread = ExecutionThreadFactory.newThread(
+                new ExecutionThread(this.executionContext, this.executionList, this.executionMonitor), "baraco-execution");
         this.executionThread.start();
     }
 
+    /*
+     * Waits until the execution thread has executed all actions and reported that it has finished.
+     */
+    public void awaitExecution() throws InterruptedException {
+        if(this.executionThread != null) {
+            this.executionThread.join();
+        }
+    }
+
+    /*
+     * Returns true while the execution thread is running, including while it waits for input.
+     */
+    public boolean isExecuting() {
+        Thread executionThread = this.executionThread;
+
+        return executionThread != null && executionThread.isAlive();
+    }
+
+    /*
+     * Stops the running program before its next command, even if it is waiting for input. Does nothing if no program is running.
+     */
+    public void stopExecution() {
+        ExecutionMonitor executionMonitor = this.executionMonitor;
+
+        if(executionMonitor != null && this.isExecuting()) {
+            executionMonitor.cancel(ExecutionCancelledException.Reason.STOPPED);
+        }
+    }
+
+    /*
+     * Called on the execution thread once a cancelled run has unwound. Aborts the run and reports why it was cancelled.
+     */
+    void reportCancellation(ExecutionCancelledException.Reason reason) {
+        this.aborted = true;
+        this.clearAllActions();
+
+        String additionalMessage = "";
+
+        ExecutionLimits executionLimits = this.executionMonitor.getExecutionLimits();
+
+        if(reason == ExecutionCancelledException.Reason.STATEMENT_LIMIT) {
+            additionalMessage = "Limit: " + executionLimits.getMaxStatements() + " statements.";
+        }
+        else if(reason == ExecutionCancelledException.Reason.TIMEOUT) {
+            additionalMessage = "Limit: " + executionLimits.getTimeoutMillis() + " ms.";
+        }
+        else if(reason == ExecutionCancelledException.Reason.CALL_DEPTH_LIMIT && executionLimits.getMaxCallDepth() > 0) {
+            additionalMessage = "Limit: " + executionLimits.getMaxCallDepth() + " nested calls.";
+        }
+
+        BuildChecker.reportCustomError(reason.getErrorCode(), additionalMessage);
+    }
+
+    /*
+     * Returns why the last run was cancelled, or null if it was not.
+     */
+    public ExecutionCancelledException.Reason getCancelReason() {
+        return this.executionMonitor != null ? this.executionMonitor.getCancelReason() : null;
+    }
+
+    /*
+     * Sets the limits of the next runs. The run in progress keeps its limits.
+     */
+    public void setExecutionLimits(ExecutionLimits executionLimits) {
+        this.executionLimits = executionLimits;
+    }
+
+    public ExecutionLimits getExecutionLimits() {
+        return this.executionLimits;
+    }
+
     public void clearAllActions() {
         this.executionList.clear();
     }
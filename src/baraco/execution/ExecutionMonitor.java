@@ -1,5 +1,11 @@
 package baraco.execution;
 
+import baraco.execution.commands.ICommand;
+import baraco.execution.profiling.Profiler;
+import baraco.utils.logging.Log;
+import baraco.utils.metrics.InterpreterMetrics;
+
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -8,29 +14,218 @@ public class ExecutionMonitor {
 
     private final static String TAG = "ExecutionMonitor";
 
-    private boolean executionFlag = true;
+    private final static int CLOCK_CHECK_INTERVAL = 1024; //statements executed between two reads of the clock
+    private final static int METRICS_REPORT_INTERVAL = 4096; //statements executed between two reports to the metrics
+
+    //volatile so that the open gate can be checked without the lock. It is only set to true while holding the lock,
+    //which is what lets a waiting thread check it and sleep without missing the signal.
+    //Cancelling also closes the gate, so the fast path does not need a second volatile read.
+    private volatile boolean executionFlag = true;
+    private volatile ExecutionCancelledException.Reason cancelReason = null;
 
     private final Lock lock = new ReentrantLock();
     private final Condition executionGate = lock.newCondition();
 
+    private final ExecutionLimits executionLimits;
+    private final long deadline; //in System.nanoTime(), only meaningful if there is a timeout
+    private final Profiler profiler; //null if the run is not profiled
+
+    //only read and written by the execution thread
+    private Thread executionThread = null;
+    private long executedStatements = 0;
+    private long reportedStatements = 0;
+    private long evaluatedExpressions = 0;
+    private long reportedExpressions = 0;
+    private long nextCheckpoint;
+
+    public ExecutionMonitor() {
+        this(ExecutionLimits.NONE);
+    }
+
+    public ExecutionMonitor(ExecutionLimits executionLimits) {
+        this(executionLimits, null);
+    }
+
+    public ExecutionMonitor(ExecutionLimits executionLimits, Profiler profiler) {
+        this.executionLimits = executionLimits;
+        this.profiler = profiler;
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(executionLimits.getTimeoutMillis());
+        this.nextCheckpoint = this.computeNextCheckpoint();
+    }
+
     /*
 	 * Attempts to try execution process of a command. Thread sleeps if an existing command has claimed the flag.
+	 * This is called before every command, so the lock is only taken when the flag has been claimed, and the
+	 * limits are only checked once the statement count reaches the next checkpoint.
+	 * Throws an ExecutionCancelledException if the run has been cancelled or has reached one of its limits.
 	 */
     public void tryExecution() throws InterruptedException {
+        if(++this.executedStatements >= this.nextCheckpoint) {
+            this.checkLimits();
+        }
+
+        if(this.executionFlag) {
+            return;
+        }
+
         this.lock.lock();
 
         try {
             while(executionFlag == false) {
-                System.out.println(TAG + ": " + "Execution flag has been set to false. Execution sleeps!");
-                this.executionGate.await();
+                if(this.cancelReason != null) {
+                    throw new ExecutionCancelledException(this.cancelReason);
+                }
+
+                Log.d(TAG, "Execution flag has been set to false. Execution sleeps!");
+
+                if(this.executionLimits.getTimeoutMillis() > 0) {
+                    long remaining = this.deadline - System.nanoTime();
+
+                    if(remaining <= 0) {
+                        this.cancelReason = ExecutionCancelledException.Reason.TIMEOUT;
+                    }
+                    else {
+                        this.executionGate.awaitNanos(remaining);
+                    }
+                }
+                else {
+                    this.executionGate.await();
+                }
+            }
+
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /*
+     * Executes a command that has been let through by tryExecution(), measuring it if the run is profiled.
+     */
+    public void executeCommand(ICommand command) {
+        if(this.profiler == null) {
+            command.execute();
+        }
+        else {
+            this.profiler.executeCommand(command);
+        }
+    }
+
+    /*
+     * Returns the profiler measuring this run, or null if the run is not profiled.
+     */
+    public Profiler getProfiler() {
+        return this.profiler;
+    }
+
+    private void checkLimits() {
+        this.reportMetrics();
+
+        long maxStatements = this.executionLimits.getMaxStatements();
+
+        if(maxStatements > 0 && this.executedStatements > maxStatements) {
+            this.cancel(ExecutionCancelledException.Reason.STATEMENT_LIMIT);
+        }
+        else if(this.executionLimits.getTimeoutMillis() > 0 && System.nanoTime() - this.deadline >= 0) {
+            this.cancel(ExecutionCancelledException.Reason.TIMEOUT);
+        }
+
+        this.nextCheckpoint = this.computeNextCheckpoint();
+    }
+
+    private long computeNextCheckpoint() {
+        long checkpoint = this.executedStatements + METRICS_REPORT_INTERVAL;
+
+        if(this.executionLimits.getMaxStatements() > 0) {
+            checkpoint = Math.min(checkpoint, this.executionLimits.getMaxStatements() + 1);
+        }
+
+        if(this.executionLimits.getTimeoutMillis() > 0) {
+            checkpoint = Math.min(checkpoint, this.executedStatements + CLOCK_CHECK_INTERVAL);
+        }
+
+        return checkpoint;
+    }
+
+    /*
+     * Called by the execution thread before it executes anything, so that the monitor can tell its own thread apart.
+     */
+    public void bindExecutionThread() {
+        this.executionThread = Thread.currentThread();
+    }
+
+    /*
+     * Counts an expression evaluated by the execution thread. It reaches the interpreter metrics with the next report.
+     * Other threads, such as a build that evaluates constants while a program is still running, report it directly.
+     */
+    public void reportExpressionEvaluated() {
+        if(Thread.currentThread() == this.executionThread) {
+            this.evaluatedExpressions++;
+        }
+        else {
+            InterpreterMetrics.getInstance().reportExpressionsEvaluated(1);
+        }
+    }
+
+    /*
+     * Adds the statements executed and the expressions evaluated since the last report to the interpreter metrics.
+     * Called at every checkpoint and by the execution thread once it has finished.
+     */
+    public void reportMetrics() {
+        InterpreterMetrics.getInstance().reportCommandsExecuted(this.executedStatements - this.reportedStatements);
+        InterpreterMetrics.getInstance().reportExpressionsEvaluated(this.evaluatedExpressions - this.reportedExpressions);
+        this.reportedStatements = this.executedStatements;
+        this.reportedExpressions = this.evaluatedExpressions;
+    }
+
+    /*
+     * Reported by the method tracker every time a method is entered.
+     */
+    public void checkCallDepth(int callDepth) {
+        int maxCallDepth = this.executionLimits.getMaxCallDepth();
+
+        if(maxCallDepth > 0 && callDepth > maxCallDepth) {
+            this.cancel(ExecutionCancelledException.Reason.CALL_DEPTH_LIMIT);
+            throw new ExecutionCancelledException(ExecutionCancelledException.Reason.CALL_DEPTH_LIMIT);
+        }
+    }
+
+    /*
+     * Cancels the run. The execution thread stops before its next command, even if it is waiting for the flag.
+     * Can be called from any thread. Only the first reason is kept.
+     */
+    public void cancel(ExecutionCancelledException.Reason reason) {
+        this.lock.lock();
+
+        try {
+            if(this.cancelReason == null) {
+                this.cancelReason = reason;
             }
 
+            this.executionFlag = false;
+            this.executionGate.signalAll();
         }
         finally {
             this.lock.unlock();
         }
     }
 
+    public boolean isCancelled() {
+        return this.cancelReason != null;
+    }
+
+    public ExecutionCancelledException.Reason getCancelReason() {
+        return this.cancelReason;
+    }
+
+    public ExecutionLimits getExecutionLimits() {
+        return this.executionLimits;
+    }
+
+    public long getExecutedStatements() {
+        return this.executedStatements;
+    }
+
     /*
      * Claims the execution flag. Call this function if a certain command needs to halt the execution of succeeding commands.
      */
@@ -40,11 +235,17 @@ public class ExecutionMonitor {
 
     /*
      * Releases the execution flag. Do not forget to call this function on the command who claimed the execution flag to resume execution!
+     * The flag stays claimed if the run has been cancelled.
      */
     public void releaseExecutionFlag() {
         this.lock.lock();
-        this.executionFlag = true;
-        this.executionGate.signal();
-        this.lock.unlock();
+
+        try {
+            this.executionFlag = this.cancelReason == null;
+            this.executionGate.signalAll();
+        }
+        finally {
+            this.lock.unlock();
+        }
     }
 }
@@ -1,18 +1,25 @@
 package baraco.execution;
 
 import baraco.execution.commands.ICommand;
+import baraco.utils.logging.Log;
 import baraco.utils.notifications.NotificationCenter;
 import baraco.utils.notifications.Notifications;
 
 import java.util.ArrayList;
 
-public class ExecutionThread extends Thread{
+/**
+ * The body of the thread that runs a program. The thread itself is created by the {@link ExecutionThreadFactory},
+ * and may be a virtual thread.
+ */
+public class ExecutionThread implements Runnable {
     private final static String TAG = "ExecutionThread";
 
     private ArrayList<ICommand> executionList = new ArrayList<ICommand>();
     private ExecutionMonitor executionMonitor;
+    private ExecutionContext executionContext;
 
-    public ExecutionThread(ArrayList<ICommand> executionList, ExecutionMonitor executionMonitor) {
+    public ExecutionThread(ExecutionContext executionContext, ArrayList<ICommand> executionList, ExecutionMonitor executionMonitor) {
+        this.executionContext = executionContext;
         this.executionList = executionList;
         this.executionMonitor = executionMonitor;
     }
@@ -22,20 +29,37 @@ public class ExecutionThread extends Thread{
      * If a command attempts to acquire the flag, this thread will block until its flag is released(presumably by the command
      * who acquired it or another command).
      * (non-Javadoc)
-     * @see java.lang.Thread#run()
+     * @see java.lang.Runnable#run()
      */
     @Override
     public void run() {
+        this.executionContext.bind();
+        this.executionMonitor.bindExecutionThread();
+
         try {
-            for(ICommand command : this.executionList) {
+            //an uncaught runtime error clears the list, so its size is checked on every iteration
+            for(int i = 0; i < this.executionList.size(); i++) {
                 this.executionMonitor.tryExecution();
-                command.execute();
+                this.executionMonitor.executeCommand(this.executionList.get(i));
             }
         }
         catch(InterruptedException e) {
-            System.out.println(TAG + ": " + "Monitor block interrupted! " +e.getMessage());
+            Log.e(TAG, "Monitor block interrupted! " +e.getMessage());
+        }
+        catch(ExecutionCancelledException e) {
+            Log.i(TAG, "Execution cancelled: " + e.getReason());
+            ExecutionManager.getInstance().reportCancellation(e.getReason());
+        }
+        catch(StackOverflowError e) {
+            //every Baraco call nests Java calls, so a runaway recursion without a depth limit ends up here
+            this.executionMonitor.cancel(ExecutionCancelledException.Reason.CALL_DEPTH_LIMIT);
+            ExecutionManager.getInstance().reportCancellation(ExecutionCancelledException.Reason.CALL_DEPTH_LIMIT);
+        }
+        finally {
+            this.executionMonitor.reportMetrics();
+            MethodTracker.getInstance().abandonCalls();
+            NotificationCenter.getInstance().postNotification(Notifications.ON_EXECUTION_FINISHED);
+            ExecutionContext.unbind();
         }
-
-        NotificationCenter.getInstance().postNotification(Notifications.ON_EXECUTION_FINISHED);
     }
 }
@@ -0,0 +1,82 @@
+package baraco.execution;
+
+import baraco.utils.logging.Log;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates the threads that run Baraco programs. By default these are platform threads. On a JVM that has virtual
+ * threads (Java 21 or later), programs can run on virtual threads instead, so that a program blocked on a scan
+ * statement only holds on to a few kilobytes of heap rather than a whole platform thread. This is selected with
+ * -Dbaraco.virtualThreads=true or setUseVirtualThreads().
+ *
+ * Virtual threads are created through reflection so that the interpreter still compiles and runs on older JVMs,
+ * where platform threads are used regardless of the setting.
+ */
+public class ExecutionThreadFactory {
+
+    private final static String TAG = "ExecutionThreadFactory";
+
+    private final static Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private final static Method BUILDER_NAME = findMethod(findClass("java.lang.Thread$Builder"), "name", String.class);
+    private final static Method BUILDER_UNSTARTED = findMethod(findClass("java.lang.Thread$Builder"), "unstarted", Runnable.class);
+
+    private static volatile boolean useVirtualThreads = Boolean.getBoolean("baraco.virtualThreads");
+
+    private ExecutionThreadFactory() {
+
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_UNSTARTED != null;
+    }
+
+    public static boolean isUsingVirtualThreads() {
+        return useVirtualThreads && isVirtualThreadSupported();
+    }
+
+    public static void setUseVirtualThreads(boolean flag) {
+        if(flag && !isVirtualThreadSupported()) {
+            Log.w(TAG, "Virtual threads are not supported by this JVM. Programs will run on platform threads.");
+        }
+
+        useVirtualThreads = flag;
+    }
+
+    /*
+     * Returns a new, unstarted thread that runs the given task.
+     */
+    public static Thread newThread(Runnable task, String name) {
+        if(isUsingVirtualThreads()) {
+            try {
+                Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name);
+
+                return (Thread) BUILDER_UNSTARTED.invoke(builder, task);
+            } catch (ReflectiveOperationException e) {
+                Log.e(TAG, "Could not create a virtual thread: " + e);
+            }
+        }
+
+        return new Thread(task, name);
+    }
+
+    private static Class<?> findClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> ownerClass, String methodName, Class<?>... parameterTypes) {
+        if(ownerClass == null) {
+            return null;
+        }
+
+        try {
+            return ownerClass.getMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
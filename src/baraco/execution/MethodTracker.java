@@ -1,39 +1,77 @@
 package baraco.execution;
 
 import baraco.representations.BaracoMethod;
+import baraco.utils.metrics.InterpreterMetrics;
+import baraco.utils.recording.MethodCallEvent;
+import jdk.jfr.EventType;
 
+import java.util.Arrays;
 import java.util.Stack;
 
 public class MethodTracker {
 
     private final static String TAG = "MethodTracker";
 
-    private static MethodTracker sharedInstance = null;
+    private final static EventType METHOD_CALL_EVENT_TYPE = EventType.getEventType(MethodCallEvent.class);
 
     private Stack<BaracoMethod> callStack;
+    private MethodCallEvent[] callEvents = new MethodCallEvent[16]; //the event of each call on the stack, null if it is not recorded
 
     public static MethodTracker getInstance() {
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getMethodTracker();
     }
 
-    private MethodTracker() {
+    public MethodTracker() {
         this.callStack = new Stack<BaracoMethod>();
     }
 
-    public static void initialize() {
-        sharedInstance = new MethodTracker();
-    }
-
     public static void reset() {
+        getInstance().abandonCalls();
+    }
 
+    /*
+     * Clears the calls that were never exited because their run was cancelled.
+     */
+    public void abandonCalls() {
+        InterpreterMetrics.getInstance().reportExitCalls(this.callStack.size());
+        this.callStack.clear();
+        Arrays.fill(this.callEvents, null);
     }
 
     public void reportEnterFunction(BaracoMethod baracoMethod) {
+        ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
+
+        if(executionMonitor != null) {
+            executionMonitor.checkCallDepth(this.callStack.size() + 1);
+        }
+
         this.callStack.push(baracoMethod);
+        InterpreterMetrics.getInstance().reportEnterCall();
+
+        //no event is created unless a recording is active, since calls are frequent
+        if(METHOD_CALL_EVENT_TYPE.isEnabled()) {
+            int callDepth = this.callStack.size();
+
+            if(callDepth > this.callEvents.length) {
+                this.callEvents = Arrays.copyOf(this.callEvents, callDepth * 2);
+            }
+
+            MethodCallEvent event = new MethodCallEvent(baracoMethod.getMethodName(), callDepth);
+            event.begin();
+            this.callEvents[callDepth - 1] = event;
+        }
     }
 
     public void reportExitFunction() {
+        int callDepth = this.callStack.size();
+
+        if(callDepth <= this.callEvents.length && this.callEvents[callDepth - 1] != null) {
+            this.callEvents[callDepth - 1].commit();
+            this.callEvents[callDepth - 1] = null;
+        }
+
         this.callStack.pop();
+        InterpreterMetrics.getInstance().reportExitCalls(1);
     }
 
     public BaracoMethod getLatestFunction() {
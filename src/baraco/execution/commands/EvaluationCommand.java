@@ -1,206 +1,136 @@
 package baraco.execution.commands;
 
 import baraco.antlr.parser.BaracoParser.*;
-import baraco.builder.ParserHandler;
 import baraco.execution.ExecutionManager;
+import baraco.execution.ExecutionMonitor;
 import baraco.execution.commands.controlled.IAttemptCommand;
 import baraco.representations.*;
-import baraco.semantics.searching.VariableSearcher;
-import baraco.semantics.statements.StatementControlOverseer;
-import baraco.semantics.symboltable.SymbolTableManager;
-import baraco.semantics.symboltable.scopes.ClassScope;
-import baraco.semantics.utils.Expression;
-import baraco.semantics.utils.Expression.LazyFunction;
-import baraco.semantics.utils.Expression.LazyNumber;
-import baraco.semantics.utils.StringUtils;
-import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ErrorNode;
-import org.antlr.v4.runtime.tree.ParseTreeListener;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.antlr.v4.runtime.tree.TerminalNode;
+import baraco.semantics.expressions.ExpressionCompiler;
+import baraco.semantics.expressions.ExpressionException;
+import baraco.semantics.expressions.ExpressionNode;
+import baraco.semantics.optimization.PassManager;
+import baraco.utils.metrics.InterpreterMetrics;
+import baraco.utils.recording.EvaluationEvent;
+import jdk.jfr.EventType;
 
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.regex.Pattern;
 
-public class EvaluationCommand implements ICommand, ParseTreeListener {
+public class EvaluationCommand implements ICommand {
 
     private final static String TAG = "EvaluationCommand";
 
+    private final static EventType EVALUATION_EVENT_TYPE = EventType.getEventType(EvaluationEvent.class);
+
     private ExpressionContext parentExprCtx;
-    private String modifiedExp;
+    private ExpressionNode expressionNode;
     private BigDecimal resultValue;
+    private int intResult;
+    private double decimalResult;
     private String stringResult = "";
 
-    private boolean isNumeric;
+    private final boolean isNumeric;
+    private final boolean isIntegral;
+    private final boolean arbitraryPrecision;
     private boolean hasException = false;
 
     public EvaluationCommand(ExpressionContext exprCtx) {
         this.parentExprCtx = exprCtx;
+        this.expressionNode = PassManager.getInstance().optimize(ExpressionCompiler.compile(exprCtx));
+        this.isNumeric = this.expressionNode.isNumeric();
+        this.arbitraryPrecision = this.expressionNode.isArbitraryPrecision();
+        this.isIntegral = !this.arbitraryPrecision && this.expressionNode.isIntegral();
+
+        InterpreterMetrics.getInstance().reportExpressionCompiled();
     }
 
     @Override
     public void execute() {
+        this.resultValue = null;
+        this.stringResult = null;
+        this.hasException = false;
 
-        //System.out.println("EvaluationCommand: executing");
-        this.modifiedExp = this.parentExprCtx.getText();
+        reportEvaluation();
 
-        for (ExpressionContext eCtx : this.parentExprCtx.expression()) { // bias functions in evaluating
-            if (isFunctionCall(eCtx)) {
-                EvaluationCommand evaluationCommand = new EvaluationCommand(eCtx);
-                evaluationCommand.execute();
+        //no event is created unless a recording is active, since it is committed even if the evaluation is cancelled
+        EvaluationEvent evaluationEvent = null;
 
-                this.modifiedExp = this.modifiedExp.replace(eCtx.getText(), evaluationCommand.modifiedExp);
-            }
+        if(EVALUATION_EVENT_TYPE.isEnabled()) {
+            evaluationEvent = new EvaluationEvent();
+            evaluationEvent.begin();
         }
 
-        ParseTreeWalker treeWalker = new ParseTreeWalker();
-        treeWalker.walk(this, this.parentExprCtx);
-
-        isNumeric = !this.modifiedExp.contains("\"") && !this.modifiedExp.contains("\'");
-
-        if (!isNumeric) {
-
-            if (this.modifiedExp.contains("==") || this.modifiedExp.contains("!=")) {
-
-
-                String[] strings = {"", ""};
-
-                if (this.modifiedExp.contains("=="))
-                    strings = this.modifiedExp.split("==");
-
-                if (this.modifiedExp.contains("!="))
-                    strings = this.modifiedExp.split("!=");
-
-                String equalityFunction = "STREQ("+strings[0]+", " + strings[1] + ")";
-
-                if (this.modifiedExp.contains("!="))
-                    equalityFunction = "not(" + equalityFunction + ")";
-
-                Expression e = new Expression(equalityFunction);
-
-                e.addLazyFunction(e.new LazyFunction("STREQ", 2) {
-
-                    private LazyNumber ZERO = new LazyNumber() {
-                        public BigDecimal eval() {
-                            return BigDecimal.ZERO;
-                        }
-                        public String getString() {
-                            return "0";
-                        }
-                    };
-
-                    private LazyNumber ONE = new LazyNumber() {
-                        public BigDecimal eval() {
-                            return BigDecimal.ONE;
-                        }
-                        public String getString() {
-                            return null;
-                        }
-                    };
-
-                    public LazyNumber lazyEval(List<LazyNumber> lazyParams) {
-                        if (lazyParams.get(0).getString().equals(lazyParams.get(1).getString())) {
-                            return ONE;
-                        }
-                        return ZERO;
-                    }
-                });
-
-                this.resultValue = e.eval();
-                isNumeric = true;
-            }else if (this.parentExprCtx.expression().size() != 0 &&
-                    !isArrayElement(parentExprCtx) &&
-                    !isFunctionCall(parentExprCtx)) {
-
-                for (ExpressionContext expCtx :
-                        this.parentExprCtx.expression()) {
-
-                    if (!isArray(expCtx)) {
-
-                        EvaluationCommand innerEvCmd = new EvaluationCommand(expCtx);
-                        innerEvCmd.execute();
-
-                        if (innerEvCmd.isNumericResult())
-                            this.stringResult += innerEvCmd.getResult().toEngineeringString();
-                        else
-                            this.stringResult += innerEvCmd.getStringResult();
-
-                    }
-                }
-
+        try {
+            if (!this.isNumeric) {
+                this.stringResult = this.expressionNode.evaluateString();
+            } else if (this.arbitraryPrecision) {
+                this.resultValue = this.expressionNode.evaluateNumeric();
+            } else if (this.isIntegral) {
+                this.intResult = this.expressionNode.evaluateInt();
             } else {
-                this.stringResult = StringUtils.removeQuotes(modifiedExp);
-            }
-
-        } else {
-
-            if (this.modifiedExp.contains("!")) {
-                this.modifiedExp = this.modifiedExp.replaceAll("!", "not");
-                this.modifiedExp = this.modifiedExp.replaceAll("not=", "!=");
+                this.decimalResult = this.expressionNode.evaluateDecimal();
             }
-
-            if (this.modifiedExp.contains("and")) {
-                this.modifiedExp = this.modifiedExp.replaceAll("and", "&&");
-            }
-
-            if (this.modifiedExp.contains("or")) {
-                this.modifiedExp = this.modifiedExp.replaceAll("or", "||");
-            }
-
-            Expression evalEx = new Expression(this.modifiedExp);
-
-            try {
-                this.resultValue = evalEx.eval(false);
-                this.stringResult = this.resultValue.toEngineeringString();
-            } catch (Expression.ExpressionException ex) {
-                this.resultValue = new BigDecimal(0);
-                this.stringResult = "";
-                this.hasException = true;
-            } catch (ArithmeticException ex) {
-                //StatementControlOverseer.getInstance().setCurrentCatchClause(IAttemptCommand.CatchTypeEnum.ARITHMETIC_EXCEPTION);
-
-                ExecutionManager.getInstance().setCurrentCheckedLineNumber(this.parentExprCtx.getStart().getLine());
-                ExecutionManager.getInstance().setCurrentCatchType(IAttemptCommand.CatchTypeEnum.ARITHMETIC_EXCEPTION);
-
-                this.resultValue = new BigDecimal(0);
-                this.stringResult = "";
-                this.hasException = true;
+        } catch (ExpressionException ex) {
+            this.setExceptionResult();
+        } catch (ArithmeticException ex) {
+            ExecutionManager.getInstance().setCurrentCheckedLineNumber(this.parentExprCtx.getStart().getLine());
+            ExecutionManager.getInstance().setCurrentCatchType(IAttemptCommand.CatchTypeEnum.ARITHMETIC_EXCEPTION);
+
+            this.setExceptionResult();
+        } finally {
+            if(evaluationEvent != null) {
+                evaluationEvent.commit(this.parentExprCtx);
             }
-
         }
-
     }
 
-    @Override
-    public void visitTerminal(TerminalNode node) {
+    /*
+     * Counts an evaluation on the program's monitor, which adds the evaluations of its execution thread to the
+     * interpreter metrics in batches. Expressions evaluated before any program has run are added directly.
+     */
+    private static void reportEvaluation() {
+        ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
 
+        if(executionMonitor != null) {
+            executionMonitor.reportExpressionEvaluated();
+        }
+        else {
+            InterpreterMetrics.getInstance().reportExpressionsEvaluated(1);
+        }
     }
 
-    @Override
-    public void visitErrorNode(ErrorNode node) {
-        // TODO Auto-generated method stub
+    /*
+     * Evaluates the expression as the condition of a statement. No numeric or string result is produced,
+     * so conditions that are checked on every iteration of a loop do not allocate.
+     */
+    public boolean evaluatePredicate() {
+        this.hasException = false;
+        reportEvaluation();
 
-    }
+        if(!this.expressionNode.isNumeric()) {
+            return false;
+        }
 
-    @Override
-    public void enterEveryRule(ParserRuleContext ctx) {
-        if (ctx instanceof ExpressionContext) {
-            ExpressionContext exprCtx = (ExpressionContext) ctx;
-
-            if (EvaluationCommand.isFunctionCall(exprCtx)) {
-                this.evaluateFunctionCall(exprCtx);
-            } else if (EvaluationCommand.isArrayElement(exprCtx)) {
-                this.evaluateArray(exprCtx);
-            } else if (EvaluationCommand.isVariableOrConst(exprCtx)) {
-                this.evaluateVariable(exprCtx);
-            }
+        try {
+            return this.expressionNode.evaluatePredicate();
+        } catch (ExpressionException ex) {
+            this.hasException = true;
+        } catch (ArithmeticException ex) {
+            ExecutionManager.getInstance().setCurrentCheckedLineNumber(this.parentExprCtx.getStart().getLine());
+            ExecutionManager.getInstance().setCurrentCatchType(IAttemptCommand.CatchTypeEnum.ARITHMETIC_EXCEPTION);
+
+            this.hasException = true;
         }
-    }
 
-    @Override
-    public void exitEveryRule(ParserRuleContext ctx) {
+        return false;
+    }
 
+    private void setExceptionResult() {
+        this.resultValue = BigDecimal.ZERO;
+        this.intResult = 0;
+        this.decimalResult = 0;
+        this.stringResult = "";
+        this.hasException = true;
     }
 
     public static boolean isFunctionCall(ExpressionContext exprCtx) {
@@ -254,145 +184,85 @@ public class EvaluationCommand implements ICommand, ParseTreeListener {
         return false;
     }
 
-    private void evaluateFunctionCall(ExpressionContext exprCtx) {
-
-        for (ExpressionContext eCtx : exprCtx.expression()) {
-
-            String functionName = eCtx.getText();
-
-            ClassScope classScope = SymbolTableManager.getInstance().getClassScope(
-                    ParserHandler.getInstance().getCurrentClassName());
-            BaracoMethod baracoMethod = classScope.searchMethod(functionName);
-
-            if (baracoMethod == null) {
-                return;
-            }
-
-            List<ExpressionContext> exprCtxList;
-
-            if (eCtx.expressionList() != null) {
-                exprCtxList = eCtx.expressionList().expression();
-            } else {
-                exprCtxList = exprCtx.expressionList().expression();
+    /*
+     * Returns the numeric result with arbitrary precision. Outside of that mode, it is only created when asked for.
+     */
+    public BigDecimal getResult() {
+        if(this.resultValue == null && this.isNumeric) {
+            if(this.isIntegral) {
+                this.resultValue = BigDecimal.valueOf(this.intResult);
             }
-
-            for (int i = 0; i < exprCtxList.size(); i++) {
-                ExpressionContext parameterExprCtx = exprCtxList.get(i);
-
-                if (isArray(parameterExprCtx)) {
-                    BaracoValue barArray = BaracoValueSearcher.searchBaracoValue(parameterExprCtx.getText());
-                    baracoMethod.mapArrayAt(barArray, i, parameterExprCtx.getText());
-                } else {
-                    EvaluationCommand evaluationCommand = new EvaluationCommand(parameterExprCtx);
-                    evaluationCommand.execute();
-
-                    if (evaluationCommand.getResult() != null || !evaluationCommand.getStringResult().equals("")) {
-                        if (evaluationCommand.isNumericResult())
-                            baracoMethod.mapParameterByValueAt(evaluationCommand.getResult().toEngineeringString(), i);
-                        else
-                            baracoMethod.mapParameterByValueAt(evaluationCommand.getStringResult(), i);
-                    }
-                }
-            }
-
-            baracoMethod.execute();
-
-            //System.out.println(TAG + ": " + "Before modified EXP function call: " + this.modifiedExp);
-
-
-            if (baracoMethod.getReturnType() == BaracoMethod.MethodType.STRING_TYPE) {
-                this.modifiedExp = this.modifiedExp.replace(exprCtx.getText(),
-                        "\"" + baracoMethod.getReturnValue().getValue().toString() + "\"");
-            } else {
-                this.modifiedExp = this.modifiedExp.replace(exprCtx.getText(),
-                        baracoMethod.getReturnValue().getValue().toString());
+            else {
+                this.resultValue = new BigDecimal(Double.toString(this.decimalResult));
             }
+        }
 
-            //System.out.println(TAG + ": " + "After modified EXP function call: " + this.modifiedExp);
+        return this.resultValue;
+    }
 
+    /*
+     * Returns the numeric result as an int, truncating decimals the same way a Java cast does.
+     */
+    public int getIntResult() {
+        if(this.arbitraryPrecision) {
+            return this.resultValue.intValue();
+        }
+        else if(this.isIntegral) {
+            return this.intResult;
         }
-    }
 
-    private void evaluateVariable(ExpressionContext exprCtx) {
-        BaracoValue baracoValue = VariableSearcher
-                .searchVariable(exprCtx.getText());
+        return (int) this.decimalResult;
+    }
 
-        if (baracoValue == null || baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.ARRAY) {
-            return;
+    public double getDecimalResult() {
+        if(this.arbitraryPrecision) {
+            return this.resultValue.doubleValue();
+        }
+        else if(this.isIntegral) {
+            return this.intResult;
         }
 
-        try {
+        return this.decimalResult;
+    }
 
-            if (baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.STRING) {
-                this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.getText(),
-                        "\"" + baracoValue.getValue().toString() + "\"");
-            } else if (baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.CHAR) {
-                this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.getText(),
-                        "'" + baracoValue.getValue().toString() + "'");
-            } else {
-                this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.getText(),
-                        baracoValue.getValue().toString());
+    /*
+     * Returns the string form of the result. Numeric results are only converted when asked for.
+     */
+    public String getStringResult() {
+        if(this.stringResult == null) {
+            if(this.arbitraryPrecision) {
+                this.stringResult = this.resultValue.toEngineeringString();
             }
-
-        } catch (NullPointerException e) {
-            if (baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.INT) {
-                this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.getText(),
-                        "0");
-            }else {
-                this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.getText(),
-                        "null");
+            else if(this.isIntegral) {
+                this.stringResult = Integer.toString(this.intResult);
+            }
+            else {
+                this.stringResult = Double.toString(this.decimalResult);
             }
-
         }
 
-        //System.out.println("EVALUATED: " + modifiedExp);
+        return this.stringResult;
     }
 
-    private void evaluateArray(ExpressionContext exprCtx) {
-        BaracoValue value = BaracoValueSearcher.searchBaracoValue(exprCtx.expression(0).getText());
-
-        if (value != null) {
-            if (value.getPrimitiveType() == BaracoValue.PrimitiveType.ARRAY) {
-
-                BaracoArray baracoArray = (BaracoArray) value.getValue();
-
-                EvaluationCommand evCmd = new EvaluationCommand(exprCtx.expression(1));
-                evCmd.execute();
-
-                ExecutionManager.getInstance().setCurrentCheckedLineNumber(exprCtx.getStart().getLine());
-                BaracoValue arrayMobiValue = baracoArray.getValueAt(evCmd.getResult().intValue());
-
-                if (arrayMobiValue == null)
-                    return;
-
-                if (arrayMobiValue.getPrimitiveType() == BaracoValue.PrimitiveType.STRING) {
-                    //this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.expression(0).getText() + "\\[([a-zA-Z0-9]*)]", "\"" + arrayMobiValue.getValue().toString() + "\"");
-                    this.modifiedExp = this.modifiedExp.replace(exprCtx.getText(), "\"" + arrayMobiValue.getValue().toString() + "\"");
-                } else {
-                    //this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.expression(0).getText() + "\\[([a-zA-Z0-9]*)]", arrayMobiValue.getValue().toString());
-                    this.modifiedExp = this.modifiedExp.replace(exprCtx.getText(), arrayMobiValue.getValue().toString());
-                }
-
-            }
-        }
+    public String getModifiedExp() { return this.parentExprCtx.getText();}
 
+    public boolean isNumericResult() {
+        return isNumeric;
     }
 
     /*
-     * Returns the result
+     * Returns true if the numeric result was computed with int arithmetic.
      */
-    public BigDecimal getResult() {
-        return this.resultValue;
-    }
-
-    public String getStringResult() {
-        return stringResult;
+    public boolean isIntegralResult() {
+        return isIntegral;
     }
 
-    public String getModifiedExp() { return modifiedExp;}
-
-    public boolean isNumericResult() {
-        return isNumeric;
+    /*
+     * Returns true if the numeric result was computed with arbitrary precision, in the mode of the context
+     * the expression was compiled in.
+     */
+    public boolean isArbitraryPrecision() {
+        return arbitraryPrecision;
     }
 
     public boolean hasException() {
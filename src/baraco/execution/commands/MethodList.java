@@ -1,23 +1,19 @@
 package baraco.execution.commands;
 
+import baraco.execution.ExecutionContext;
+
 import java.util.ArrayList;
 
 public class MethodList {
 
-    private static MethodList instance = null;
     private ArrayList<String> methodNames;
 
-    private MethodList() {
+    public MethodList() {
         this.methodNames = new ArrayList<String>();
     }
 
     public static MethodList getInstance() {
-        if (instance == null) {
-            instance = new MethodList();
-
-        }
-
-        return instance;
+        return ExecutionContext.getCurrent().getMethodList();
     }
 
     public void addMethodName(String methodName) {
@@ -4,10 +4,13 @@ import baraco.antlr.parser.BaracoParser;
 import baraco.execution.ExecutionManager;
 import baraco.execution.ExecutionMonitor;
 import baraco.execution.commands.ICommand;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.utils.logging.Log;
+import baraco.utils.recording.LoopEvent;
 
 public class DoWhileCommand extends WhileCommand {
 
+    private final static String TAG = "DoWhileCommand";
+
     public DoWhileCommand(BaracoParser.ParExpressionContext parExprCtr) {
         super(parExprCtr);
     }
@@ -17,34 +20,46 @@ public class DoWhileCommand extends WhileCommand {
      */
     @Override
     public void execute() {
-        this.executeFirstCommandSequence();
-        super.execute();
+        //no event is created unless a recording is active, since it is committed even if the loop is cancelled
+        LoopEvent loopEvent = null;
+
+        if(LOOP_EVENT_TYPE.isEnabled()) {
+            loopEvent = new LoopEvent();
+            loopEvent.begin();
+        }
+
+        try {
+            if(loopEvent != null) {
+                loopEvent.reportIteration();
+            }
+
+            this.executeFirstCommandSequence();
+            this.executeIterations(loopEvent);
+        } finally {
+            //also records the loop if the run is cancelled inside it
+            if(loopEvent != null) {
+                loopEvent.commit(this.getControlType().name(), this.conditionalExpr.getStart().getLine());
+            }
+        }
     }
 
     /*
      * Executes the first command sequence before actually executing the behavior for the while command
      */
     private void executeFirstCommandSequence() {
-        this.identifyVariables();
-
         ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
 
-        LocalVarTracker.resetLocalVars(super.getLocalVars());
-
         try {
             for(ICommand command : this.commandSequences) {
                 executionMonitor.tryExecution();
-                command.execute();
-
-                LocalVarTracker.getInstance().populateLocalVars(command);
+                executionMonitor.executeCommand(command);
 
                 if (ExecutionManager.getInstance().isAborted())
                     break;
             }
 
         } catch(InterruptedException e) {
-            //Log.e(TAG, "Monitor block interrupted! " +e.getMessage());
-            System.out.println("DoWhileCommand: Monitor block interrupted! " + e.getMessage());
+            Log.e(TAG, "Monitor block interrupted! " + e.getMessage());
         }
     }
 
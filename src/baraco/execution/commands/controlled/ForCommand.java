@@ -5,6 +5,7 @@ import baraco.builder.BuildChecker;
 import baraco.builder.ErrorRepository;
 import baraco.execution.ExecutionManager;
 import baraco.execution.ExecutionMonitor;
+import baraco.execution.commands.EvaluationCommand;
 import baraco.execution.commands.ICommand;
 import baraco.execution.commands.evaluation.AssignmentCommand;
 import baraco.execution.commands.evaluation.MappingCommand;
@@ -12,10 +13,10 @@ import baraco.execution.commands.simple.IncDecCommand;
 import baraco.execution.commands.utils.ConditionEvaluator;
 import baraco.representations.BaracoValue;
 import baraco.semantics.analyzers.LocalVariableAnalyzer;
-import baraco.semantics.mapping.IValueMapper;
-import baraco.semantics.mapping.IdentifierMapper;
 import baraco.semantics.searching.VariableSearcher;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.utils.logging.Log;
+import baraco.utils.recording.LoopEvent;
+import jdk.jfr.EventType;
 import org.antlr.v4.runtime.Token;
 
 import java.util.ArrayList;
@@ -25,20 +26,21 @@ public class ForCommand implements IControlledCommand {
 
     private final static String TAG = "MobiProg_ForCommand";
 
+    private final static EventType LOOP_EVENT_TYPE = EventType.getEventType(LoopEvent.class);
+
     private List<ICommand> commandSequences;
 
     private BaracoParser.LocalVariableDeclarationContext localVarDecCtx; //a local variable ctx that is evaluated at the start of the for loop
     private BaracoParser.ExpressionContext conditionalExpr; //the condition to satisfy
     private ICommand updateCommand; //the update command aftery ever iteration
 
-    private String modifiedConditionExpr;
-
-    private ArrayList<String> localVars = new ArrayList<>();
+    private EvaluationCommand conditionEvaluation;
 
     public ForCommand(BaracoParser.LocalVariableDeclarationContext localVarDecCtx, BaracoParser.ExpressionContext conditionalExpr, ICommand updateCommand) {
         this.localVarDecCtx = localVarDecCtx;
         this.conditionalExpr = conditionalExpr;
         this.updateCommand = updateCommand;
+        this.conditionEvaluation = new EvaluationCommand(conditionalExpr);
 
         this.commandSequences = new ArrayList<ICommand>();
     }
@@ -49,20 +51,26 @@ public class ForCommand implements IControlledCommand {
     @Override
     public void execute() {
         //this.evaluateLocalVariable();
-        this.identifyVariables();
 
         ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
+        //no event is created unless a recording is active, since it is committed even if the loop is cancelled
+        LoopEvent loopEvent = null;
 
-        LocalVarTracker.resetLocalVars(localVars);
+        if(LOOP_EVENT_TYPE.isEnabled()) {
+            loopEvent = new LoopEvent();
+            loopEvent.begin();
+        }
 
         try {
             //evaluate the given condition
-            while(ConditionEvaluator.evaluateCondition(this.conditionalExpr)) {
+            while(ConditionEvaluator.evaluateCondition(this.conditionEvaluation)) {
+                if(loopEvent != null) {
+                    loopEvent.reportIteration();
+                }
+
                 for(ICommand command : this.commandSequences) {
                     executionMonitor.tryExecution();
-                    command.execute();
-
-                    LocalVarTracker.getInstance().populateLocalVars(command);
+                    executionMonitor.executeCommand(command);
 
                     if (ExecutionManager.getInstance().isAborted())
                         break;
@@ -73,11 +81,15 @@ public class ForCommand implements IControlledCommand {
 
                 executionMonitor.tryExecution();
                 this.updateCommand.execute(); //execute the update command
-                this.identifyVariables(); //identify variables again to detect changes to such variables used.
             }
 
         } catch(InterruptedException e) {
-            System.out.println(TAG + ": " + "Monitor block interrupted! " +e.getMessage());
+            Log.e(TAG, "Monitor block interrupted! " +e.getMessage());
+        } finally {
+            //also records the loop if the run is cancelled inside it
+            if(loopEvent != null) {
+                loopEvent.commit(this.getControlType().name(), this.conditionalExpr.getStart().getLine());
+            }
         }
     }
 
@@ -89,13 +101,6 @@ public class ForCommand implements IControlledCommand {
         }
     }
 
-    private void identifyVariables() {
-        IValueMapper identifierMapper = new IdentifierMapper(this.conditionalExpr.getText());
-        identifierMapper.analyze(this.conditionalExpr);
-
-        this.modifiedConditionExpr = identifierMapper.getModifiedExp();
-    }
-
     /* (non-Javadoc)
      * @see com.neildg.mobiprog.execution.commands.controlled.IControlledCommand#getControlType()
      */
@@ -110,15 +115,11 @@ public class ForCommand implements IControlledCommand {
     @Override
     public void addCommand(ICommand command) {
 
-        System.out.println("		Added command to FOR");
+        Log.d(TAG, "		Added command to FOR");
         this.commandSequences.add(command);
     }
 
     public int getCommandCount() {
         return this.commandSequences.size();
     }
-
-    public ArrayList<String> getLocalVars() {
-        return localVars;
-    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package baraco.execution.commands.controlled;
 import baraco.antlr.parser.BaracoParser;
 import baraco.execution.ExecutionManager;
 import baraco.execution.ExecutionMonitor;
+import baraco.execution.commands.EvaluationCommand;
 import baraco.execution.commands.ICommand;
 import baraco.execution.commands.evaluation.AssignmentCommand;
 import baraco.execution.commands.evaluation.MappingCommand;
@@ -10,31 +11,31 @@ import baraco.execution.commands.simple.IncDecCommand;
 import baraco.execution.commands.simple.ReturnCommand;
 import baraco.execution.commands.utils.ConditionEvaluator;
 import baraco.representations.BaracoValue;
-import baraco.semantics.mapping.IValueMapper;
-import baraco.semantics.mapping.IdentifierMapper;
 import baraco.semantics.searching.VariableSearcher;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.semantics.statements.ReturnReachability;
+import baraco.utils.logging.Log;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class IfCommand implements IConditionalCommand {
 
+    private final static String TAG = "IfCommand";
+
     private List<ICommand> positiveCommands; //list of commands to execute if the condition holds true
     private List<ICommand> negativeCommands; //list of commands to execute if the condition holds false
 
     private BaracoParser.ParExpressionContext conditionalExpr;
-    private String modifiedConditionExpr;
+    private EvaluationCommand conditionEvaluation;
 
     private boolean returned;
 
-    private ArrayList<String> localVars = new ArrayList<>();
-
     public IfCommand(BaracoParser.ParExpressionContext conditionalExpr) {
         this.positiveCommands = new ArrayList<ICommand>();
         this.negativeCommands = new ArrayList<ICommand>();
 
         this.conditionalExpr = conditionalExpr;
+        this.conditionEvaluation = new EvaluationCommand(conditionalExpr.expression());
     }
 
 
@@ -45,18 +46,14 @@ public class IfCommand implements IConditionalCommand {
      */
     @Override
     public void execute() {
-        this.identifyVariables();
-
         ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
 
         try {
             //execute the positive commands
-            if (ConditionEvaluator.evaluateCondition(this.conditionalExpr)) {
+            if (ConditionEvaluator.evaluateCondition(this.conditionEvaluation)) {
                 for (ICommand command : this.positiveCommands) {
                     executionMonitor.tryExecution();
-                    command.execute();
-
-                    LocalVarTracker.getInstance().populateLocalVars(command);
+                    executionMonitor.executeCommand(command);
 
                     if (command instanceof ReturnCommand) {
                         returned = true;
@@ -71,9 +68,7 @@ public class IfCommand implements IConditionalCommand {
             else {
                 for (ICommand command : this.negativeCommands) {
                     executionMonitor.tryExecution();
-                    command.execute();
-
-                    LocalVarTracker.getInstance().populateLocalVars(command);
+                    executionMonitor.executeCommand(command);
 
                     if (command instanceof ReturnCommand) {
                         returned = true;
@@ -84,19 +79,11 @@ public class IfCommand implements IConditionalCommand {
                 }
             }
         } catch (InterruptedException e) {
-            //Log.e(TAG, "Monitor block interrupted! " +e.getMessage());
-            System.out.println("Monitor block interrupted! " + e.getMessage());
+            Log.e(TAG, "Monitor block interrupted! " + e.getMessage());
         }
 
     }
 
-    private void identifyVariables() {
-        IValueMapper identifierMapper = new IdentifierMapper(this.conditionalExpr.getText());
-        identifierMapper.analyze(this.conditionalExpr);
-
-        this.modifiedConditionExpr = identifierMapper.getModifiedExp();
-    }
-
     @Override
     public IControlledCommand.ControlTypeEnum getControlType() {
         return IControlledCommand.ControlTypeEnum.CONDITIONAL_IF;
@@ -104,11 +91,19 @@ public class IfCommand implements IConditionalCommand {
 
     @Override
     public void addPositiveCommand(ICommand command) {
+        if(!ReturnReachability.isReachable(this.positiveCommands)) {
+            return;
+        }
+
         this.positiveCommands.add(command);
     }
 
     @Override
     public void addNegativeCommand(ICommand command) {
+        if(!ReturnReachability.isReachable(this.negativeCommands)) {
+            return;
+        }
+
         this.negativeCommands.add(command);
     }
 
@@ -133,8 +128,4 @@ public class IfCommand implements IConditionalCommand {
         return this.negativeCommands.size();
 
     }
-
-    public ArrayList<String> getLocalVars() {
-        return localVars;
-    }
 }
@@ -4,6 +4,7 @@ import baraco.execution.ExecutionManager;
 import baraco.execution.ExecutionMonitor;
 import baraco.execution.commands.ICommand;
 import baraco.semantics.statements.StatementControlOverseer;
+import baraco.utils.logging.Log;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -11,6 +12,8 @@ import java.util.List;
 
 public class TryCommand implements IAttemptCommand {
 
+    private final static String TAG = "TryCommand";
+
     private List<ICommand> tryCommands; //list of commands to execute if the condition holds true
     private HashMap<CatchTypeEnum, List<ICommand>> catchCommands; //list of commands to execute if the condition holds false
 
@@ -58,7 +61,7 @@ public class TryCommand implements IAttemptCommand {
         try {
             for (ICommand command: tryCommands) {
                 executionMonitor.tryExecution();
-                command.execute();
+                executionMonitor.executeCommand(command);
 
                 if (ExecutionManager.getInstance().getCurrentCatchType() != null ||
                         ExecutionManager.getInstance().isAborted())
@@ -76,13 +79,13 @@ public class TryCommand implements IAttemptCommand {
 
                     for (ICommand command : currentCatchCommands) {
                         executionMonitor.tryExecution();
-                        command.execute();
+                        executionMonitor.executeCommand(command);
                     }
                 }
 
             }
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            Log.e(TAG, "Monitor block interrupted! " + e.getMessage());
         }
 
     }
@@ -3,31 +3,35 @@ package baraco.execution.commands.controlled;
 import baraco.antlr.parser.BaracoParser;
 import baraco.execution.ExecutionManager;
 import baraco.execution.ExecutionMonitor;
+import baraco.execution.commands.EvaluationCommand;
 import baraco.execution.commands.ICommand;
 import baraco.execution.commands.simple.ScanCommand;
 import baraco.execution.commands.utils.ConditionEvaluator;
 import baraco.representations.BaracoValueSearcher;
-import baraco.semantics.mapping.IValueMapper;
-import baraco.semantics.mapping.IdentifierMapper;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.utils.logging.Log;
+import baraco.utils.recording.LoopEvent;
+import jdk.jfr.EventType;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class WhileCommand implements IControlledCommand {
 
+    private final static String TAG = "WhileCommand";
+
+    protected final static EventType LOOP_EVENT_TYPE = EventType.getEventType(LoopEvent.class);
+
     protected List<ICommand> commandSequences; //the list of commands inside the WHILE statement
 
     protected BaracoParser.ParExpressionContext conditionalExpr;
-    protected String modifiedConditionExpr;
+    protected EvaluationCommand conditionEvaluation;
 
     private boolean lastLineFlag = false;
 
-    private ArrayList<String> localVars = new ArrayList<>();
-
     public WhileCommand(BaracoParser.ParExpressionContext conditionalExpr) {
         this.commandSequences = new ArrayList<ICommand>();
         this.conditionalExpr = conditionalExpr;
+        this.conditionEvaluation = new EvaluationCommand(conditionalExpr.expression());
     }
 
     /*
@@ -37,20 +41,40 @@ public class WhileCommand implements IControlledCommand {
      */
     @Override
     public void execute() {
-        this.identifyVariables();
+        //no event is created unless a recording is active, since it is committed even if the loop is cancelled
+        LoopEvent loopEvent = null;
 
-        ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
+        if(LOOP_EVENT_TYPE.isEnabled()) {
+            loopEvent = new LoopEvent();
+            loopEvent.begin();
+        }
 
-        LocalVarTracker.resetLocalVars(localVars);
+        try {
+            this.executeIterations(loopEvent);
+        } finally {
+            //also records the loop if the run is cancelled inside it
+            if(loopEvent != null) {
+                loopEvent.commit(this.getControlType().name(), this.conditionalExpr.getStart().getLine());
+            }
+        }
+    }
+
+    /*
+     * Executes the commands for as long as the condition holds, counting every iteration in the given event, if there is one.
+     */
+    protected void executeIterations(LoopEvent loopEvent) {
+        ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
 
         try {
             //evaluate the given condition
-            while(ConditionEvaluator.evaluateCondition(this.modifiedConditionExpr)) {
+            while(ConditionEvaluator.evaluateCondition(this.conditionEvaluation)) {
+                if(loopEvent != null) {
+                    loopEvent.reportIteration();
+                }
+
                 for(ICommand command : this.commandSequences) {
                     executionMonitor.tryExecution();
-                    command.execute();
-
-                    LocalVarTracker.getInstance().populateLocalVars(command);
+                    executionMonitor.executeCommand(command);
 
                     if (ExecutionManager.getInstance().isAborted())
                         break;
@@ -60,22 +84,13 @@ public class WhileCommand implements IControlledCommand {
                     break;
 
                 executionMonitor.tryExecution();
-                this.identifyVariables(); //identify variables again to detect changes to such variables used.
             }
 
         } catch(InterruptedException e) {
-            //Log.e(TAG, "Monitor block interrupted! " +e.getMessage());
-            System.out.println("WhileCommand: Monitor block interrupted " + e.getMessage());
+            Log.e(TAG, "Monitor block interrupted " + e.getMessage());
         }
     }
 
-    protected void identifyVariables() {
-        IValueMapper identifierMapper = new IdentifierMapper(this.conditionalExpr.getText());
-        identifierMapper.analyze(this.conditionalExpr);
-
-        this.modifiedConditionExpr = identifierMapper.getModifiedExp();
-    }
-
     @Override
     public ControlTypeEnum getControlType() {
         return ControlTypeEnum.WHILE_CONTROL;
@@ -91,8 +106,4 @@ public class WhileCommand implements IControlledCommand {
     public int getCommandCount() {
         return this.commandSequences.size();
     }
-
-    public ArrayList<String> getLocalVars() {
-        return localVars;
-    }
 }
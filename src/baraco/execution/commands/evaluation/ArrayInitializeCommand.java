@@ -14,6 +14,8 @@ public class ArrayInitializeCommand implements ICommand {
     private BaracoArray assignedBaracoArray;
     private BaracoParser.ArrayCreatorRestContext arrayCreatorCtx;
 
+    private EvaluationCommand sizeEvaluation;
+
     public ArrayInitializeCommand(BaracoArray baracoArray, BaracoParser.ArrayCreatorRestContext arrayCreatorCtx) {
         this.assignedBaracoArray = baracoArray;
         this.arrayCreatorCtx = arrayCreatorCtx;
@@ -25,6 +27,8 @@ public class ArrayInitializeCommand implements ICommand {
 
                 BuildChecker.reportCustomError(ErrorRepository.INVALID_INDEX_ASSIGN, "", lineNumber);
             }
+
+            this.sizeEvaluation = new EvaluationCommand(arrayCreatorCtx.expression(0));
         }
     }
 
@@ -36,11 +40,11 @@ public class ArrayInitializeCommand implements ICommand {
         BaracoParser.ExpressionContext exprCtx = this.arrayCreatorCtx.expression(0);
 
         if(exprCtx != null) {
-            EvaluationCommand evaluationCommand = new EvaluationCommand(exprCtx);
+            EvaluationCommand evaluationCommand = this.sizeEvaluation;
             evaluationCommand.execute();
 
             ExecutionManager.getInstance().setCurrentCheckedLineNumber(exprCtx.getStart().getLine());
-            this.assignedBaracoArray.initializeSize(evaluationCommand.getResult().intValue());
+            this.assignedBaracoArray.initializeSize(evaluationCommand.getIntResult());
         }
 
     }
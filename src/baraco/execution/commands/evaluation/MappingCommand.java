@@ -6,7 +6,7 @@ import baraco.execution.commands.EvaluationCommand;
 import baraco.execution.commands.ICommand;
 import baraco.representations.BaracoValue;
 import baraco.semantics.analyzers.MethodCallVerifier;
-import baraco.semantics.searching.VariableSearcher;
+import baraco.semantics.searching.VariableReference;
 import baraco.semantics.utils.AssignmentUtils;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
@@ -17,6 +17,9 @@ public class MappingCommand implements ICommand{
 
     private String modifiedExp;
 
+    private EvaluationCommand evaluationCommand;
+    private VariableReference variableReference;
+
     public MappingCommand(String identifierString, BaracoParser.ExpressionContext exprCtx) {
         this.identifierString = identifierString;
         this.parentExprCtx = exprCtx;
@@ -27,6 +30,9 @@ public class MappingCommand implements ICommand{
         ParseTreeWalker functionWalker = new ParseTreeWalker();
         functionWalker.walk(new MethodCallVerifier(), this.parentExprCtx);
 
+        this.evaluationCommand = new EvaluationCommand(this.parentExprCtx);
+        this.variableReference = new VariableReference(this.identifierString);
+
     }
 
 
@@ -37,16 +43,16 @@ public class MappingCommand implements ICommand{
     public void execute() {
         this.modifiedExp = this.parentExprCtx.getText();
 
-        EvaluationCommand evaluationCommand = new EvaluationCommand(this.parentExprCtx);
+        EvaluationCommand evaluationCommand = this.evaluationCommand;
         evaluationCommand.execute();
 
         if (evaluationCommand.hasException())
             return;
 
-        BaracoValue baracoValue = VariableSearcher.searchVariable(this.identifierString);
+        BaracoValue baracoValue = this.variableReference.getBaracoValue();
 
         if (evaluationCommand.isNumericResult())
-            AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand.getResult());
+            AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand);
         else
             AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand.getStringResult());
     }
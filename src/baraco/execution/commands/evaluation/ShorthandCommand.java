@@ -11,6 +11,7 @@ import baraco.execution.commands.ICommand;
 import baraco.representations.BaracoArray;
 import baraco.representations.BaracoValue;
 import baraco.semantics.analyzers.MethodCallVerifier;
+import baraco.semantics.searching.VariableReference;
 import baraco.semantics.searching.VariableSearcher;
 import baraco.semantics.utils.AssignmentUtils;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
@@ -24,6 +25,12 @@ public class ShorthandCommand implements ICommand {
     private BaracoParser.ExpressionContext rightHandExprCtx;
     int tokenSign;
 
+    private EvaluationCommand rightHandEvaluation;
+    private EvaluationCommand arrayIndexEvaluation;
+
+    private boolean leftHandArrayAccessor;
+    private VariableReference leftHandReference; //the variable or array being assigned
+
     public ShorthandCommand(BaracoParser.ExpressionContext leftHandExprCtx,
                              BaracoParser.ExpressionContext rightHandExprCtx, int tokenSign) {
         this.leftHandExprCtx = leftHandExprCtx;
@@ -53,6 +60,17 @@ public class ShorthandCommand implements ICommand {
 
         TypeChecker typeChecker = new TypeChecker(baracoValue, this.rightHandExprCtx);
         typeChecker.verify();
+
+        this.rightHandEvaluation = new EvaluationCommand(this.rightHandExprCtx);
+        this.leftHandArrayAccessor = this.checkLeftHandArrayAccessor();
+
+        if(this.leftHandArrayAccessor) {
+            this.arrayIndexEvaluation = new EvaluationCommand(this.leftHandExprCtx.expression(1));
+            this.leftHandReference = new VariableReference(this.leftHandExprCtx.expression(0).primary().Identifier().getText());
+        }
+        else {
+            this.leftHandReference = new VariableReference(this.leftHandExprCtx.getText());
+        }
     }
 
     /*
@@ -62,23 +80,23 @@ public class ShorthandCommand implements ICommand {
      */
     @Override
     public void execute() {
-        EvaluationCommand evaluationCommand = new EvaluationCommand(this.rightHandExprCtx);
+        EvaluationCommand evaluationCommand = this.rightHandEvaluation;
         evaluationCommand.execute();
 
         if (evaluationCommand.hasException())
             return;
 
-        if(this.isLeftHandArrayAccessor()) {
-            this.handleArrayAssignment(evaluationCommand.getResult().toEngineeringString());
+        if(this.leftHandArrayAccessor) {
+            this.handleArrayAssignment(evaluationCommand);
         }
         else {
-            BaracoValue baracoValue = VariableSearcher.searchVariable(this.leftHandExprCtx.getText());
+            BaracoValue baracoValue = this.leftHandReference.getBaracoValue();
 
             if (evaluationCommand.isNumericResult()) {
 
                 if (!baracoValue.isFinal()) {
                     // Add checking for shorthand expressions
-                     AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand.getResult(), tokenSign);
+                     AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand, tokenSign);
                 }
 
             } else {
@@ -94,30 +112,29 @@ public class ShorthandCommand implements ICommand {
         }
     }
 
-    private boolean isLeftHandArrayAccessor() {
+    private boolean checkLeftHandArrayAccessor() {
         List<TerminalNode> lBrackTokens = this.leftHandExprCtx.getTokens(BaracoLexer.LBRACK);
         List<TerminalNode> rBrackTokens = this.leftHandExprCtx.getTokens(BaracoLexer.RBRACK);
 
         return(lBrackTokens.size() > 0 && rBrackTokens.size() > 0);
     }
 
-    private void handleArrayAssignment(String resultString) {
+    private void handleArrayAssignment(EvaluationCommand resultEvaluation) {
         TerminalNode identifierNode = this.leftHandExprCtx.expression(0).primary().Identifier();
-        BaracoParser.ExpressionContext arrayIndexExprCtx = this.leftHandExprCtx.expression(1);
 
-        BaracoValue baracoValue = VariableSearcher.searchVariable(identifierNode.getText());
+        BaracoValue baracoValue = this.leftHandReference.getBaracoValue();
         BaracoArray baracoArray = (BaracoArray) baracoValue.getValue();
 
-        EvaluationCommand evaluationCommand = new EvaluationCommand(arrayIndexExprCtx);
+        EvaluationCommand evaluationCommand = this.arrayIndexEvaluation;
         evaluationCommand.execute();
 
         ExecutionManager.getInstance().setCurrentCheckedLineNumber(identifierNode.getSymbol().getLine());
 
         //create a new array value to replace value at specified index
         BaracoValue newArrayValue = new BaracoValue(null, baracoArray.getPrimitiveType());
-        newArrayValue.setValue(resultString);
-        baracoArray.updateValueAt(newArrayValue, evaluationCommand.getResult().intValue());
+        AssignmentUtils.assignArrayElementValue(newArrayValue, resultEvaluation);
+        baracoArray.updateValueAt(newArrayValue, evaluationCommand.getIntResult());
 
-        //Console.log("Index to access: " +evaluationCommand.getResult().intValue()+ " Updated with: " +resultString);
+        //Console.log("Index to access: " +evaluationCommand.getResult().intValue()+ " Updated with: " +newArrayValue.getValue());
     }
 }
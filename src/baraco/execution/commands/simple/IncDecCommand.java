@@ -8,11 +8,13 @@ import baraco.antlr.parser.BaracoParser.*;
 import baraco.representations.BaracoValue;
 import baraco.semantics.mapping.IValueMapper;
 import baraco.semantics.mapping.IdentifierMapper;
+import baraco.semantics.searching.VariableReference;
 
 public class IncDecCommand implements ICommand {
 
     private ExpressionContext exprCtx;
     private int tokenSign;
+    private VariableReference variableReference; //null if the operand is not a plain variable
 
     public IncDecCommand(ExpressionContext exprCtx, int tokenSign) {
         this.exprCtx = exprCtx;
@@ -23,6 +25,10 @@ public class IncDecCommand implements ICommand {
 
         UndeclaredChecker undeclaredChecker = new UndeclaredChecker(this.exprCtx);
         undeclaredChecker.verify();
+
+        if(this.exprCtx.primary() != null && this.exprCtx.primary().Identifier() != null) {
+            this.variableReference = new VariableReference(this.getIdentifierString());
+        }
     }
 
     /* (non-Javadoc)
@@ -33,11 +39,18 @@ public class IncDecCommand implements ICommand {
         //String identifier = this.exprCtx.primary().Identifier().getText();
         //MobiValue mobiValue = MobiValueSearcher.searchMobiValue(identifier);
 
-        IValueMapper leftHandMapper = new IdentifierMapper(
-                this.exprCtx.getText());
-        leftHandMapper.analyze(this.exprCtx);
+        BaracoValue baracoValue;
 
-        BaracoValue baracoValue = leftHandMapper.getBaracoValue();
+        if(this.variableReference != null) {
+            baracoValue = this.variableReference.getBaracoValue();
+        }
+        else {
+            IValueMapper leftHandMapper = new IdentifierMapper(
+                    this.exprCtx.getText());
+            leftHandMapper.analyze(this.exprCtx);
+
+            baracoValue = leftHandMapper.getBaracoValue();
+        }
 
         if(!baracoValue.isFinal())
             this.performOperation(baracoValue);
@@ -48,27 +61,19 @@ public class IncDecCommand implements ICommand {
      */
     private void performOperation(BaracoValue baracoValue) {
         if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.INT) {
-            int value = Integer.valueOf(baracoValue.getValue().toString());
-
             if(this.tokenSign == BaracoLexer.INC) {
-                value++;
-                baracoValue.setValue(String.valueOf(value));
+                baracoValue.setIntValue(baracoValue.getIntValue() + 1);
             }
             else if(this.tokenSign == BaracoLexer.DEC) {
-                value--;
-                baracoValue.setValue(String.valueOf(value));
+                baracoValue.setIntValue(baracoValue.getIntValue() - 1);
             }
         }
         else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.DECIMAL) {
-            float value = Float.valueOf(baracoValue.getValue().toString());
-
             if(this.tokenSign == BaracoLexer.INC) {
-                value++;
-                baracoValue.setValue(String.valueOf(value));
+                baracoValue.setDecimalValue(baracoValue.getDecimalValue() + 1);
             }
             else if(this.tokenSign == BaracoLexer.DEC) {
-                value--;
-                baracoValue.setValue(String.valueOf(value));
+                baracoValue.setDecimalValue(baracoValue.getDecimalValue() - 1);
             }
         }
     }
@@ -7,11 +7,13 @@ import baraco.antlr.parser.BaracoParser.*;
 import baraco.representations.BaracoMethod;
 import baraco.representations.BaracoValue;
 import baraco.semantics.analyzers.MethodCallVerifier;
-import baraco.semantics.searching.VariableSearcher;
+import baraco.semantics.searching.VariableReference;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.ClassScope;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class MethodCallCommand implements ICommand {
@@ -21,11 +23,16 @@ public class MethodCallCommand implements ICommand {
     private ExpressionContext exprCtx;
     private String functionName;
 
+    private List<EvaluationCommand> parameterEvaluations;
+    private List<VariableReference> arrayReferences; //the arrays passed as arguments, null for other parameters
+
     public MethodCallCommand(String functionName, ExpressionContext exprCtx) {
         this.functionName = functionName;
         this.exprCtx = exprCtx;
 
-        System.out.println("SEARCH FOR " + functionName);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "SEARCH FOR " + functionName);
+        }
 
         this.searchFunction();
 
@@ -33,6 +40,7 @@ public class MethodCallCommand implements ICommand {
         functionWalker.walk(new MethodCallVerifier(), this.exprCtx);
 
         this.verifyParameters();
+        this.compileParameters();
     }
 
     /* (non-Javadoc)
@@ -63,11 +71,38 @@ public class MethodCallCommand implements ICommand {
         }
     }
 
+    /*
+     * Prepares the evaluation of each non-array parameter once, during analysis. Array arguments are bound to their declaration.
+     */
+    private void compileParameters() {
+        this.parameterEvaluations = new ArrayList<EvaluationCommand>();
+        this.arrayReferences = new ArrayList<VariableReference>();
+
+        if (this.exprCtx.expressionList() == null || this.baracoMethod == null) {
+            return;
+        }
+
+        List<ExpressionContext> exprCtxList = this.exprCtx.expressionList().expression();
+
+        for(int i = 0; i < exprCtxList.size(); i++) {
+            BaracoValue parameterValue = this.baracoMethod.getParameterAt(i);
+
+            if(parameterValue != null && parameterValue.getPrimitiveType() == BaracoValue.PrimitiveType.ARRAY) {
+                this.parameterEvaluations.add(null);
+                this.arrayReferences.add(new VariableReference(exprCtxList.get(i).getText()));
+            }
+            else {
+                this.parameterEvaluations.add(new EvaluationCommand(exprCtxList.get(i)));
+                this.arrayReferences.add(null);
+            }
+        }
+    }
+
     /*
      * Maps parameters when needed
      */
     private void mapParameters() {
-        System.out.println("MethodCallCommand: mapping parameters");
+        Log.d(TAG, "mapping parameters");
         //System.out.println("exprctx: " + this.exprCtx.expressionList().getText());
         /*if(this.exprCtx.arguments() == null || this.exprCtx.arguments().expressionList() == null
                 || this.exprCtx.arguments().expressionList().expression() == null) {
@@ -79,25 +114,28 @@ public class MethodCallCommand implements ICommand {
         }
 
         List<ExpressionContext> exprCtxList = this.exprCtx.expressionList().expression();
+        Object[] arguments = new Object[exprCtxList.size()];
 
-        //map values in parameters
+        //evaluate all arguments first, since an argument may invoke the same method
         for(int i = 0; i < exprCtxList.size(); i++) {
-            ExpressionContext parameterExprCtx = exprCtxList.get(i);
-
-            if(this.baracoMethod.getParameterAt(i).getPrimitiveType() == BaracoValue.PrimitiveType.ARRAY) {
-                BaracoValue baracoValue = VariableSearcher.searchVariable(parameterExprCtx.getText());
-                this.baracoMethod.mapArrayAt(baracoValue, i, parameterExprCtx.getText());
+            if(this.arrayReferences.get(i) != null) {
+                arguments[i] = this.arrayReferences.get(i).getBaracoValue();
             }
             else {
-                EvaluationCommand evaluationCommand = new EvaluationCommand(parameterExprCtx);
+                EvaluationCommand evaluationCommand = this.parameterEvaluations.get(i);
                 evaluationCommand.execute();
 
-                if (evaluationCommand.isNumericResult()) {
-                    this.baracoMethod.mapParameterByValueAt(evaluationCommand.getResult().toEngineeringString(), i);
-                }
-                else {
-                    this.baracoMethod.mapParameterByValueAt(evaluationCommand.getStringResult(), i);
-                }
+                arguments[i] = evaluationCommand.getStringResult();
+            }
+        }
+
+        //map values in parameters
+        for(int i = 0; i < arguments.length; i++) {
+            if(arguments[i] instanceof BaracoValue) {
+                this.baracoMethod.mapArrayAt((BaracoValue) arguments[i], i, exprCtxList.get(i).getText());
+            }
+            else {
+                this.baracoMethod.mapParameterByValueAt((String) arguments[i], i);
             }
         }
     }
@@ -18,6 +18,8 @@ public class ReturnCommand implements ICommand {
     private ExpressionContext expressionCtx;
     private BaracoMethod assignedBaracoMethod;
 
+    private EvaluationCommand evaluationCommand;
+
     public ReturnCommand(ExpressionContext expressionCtx, BaracoMethod baracoMethod) {
         this.expressionCtx = expressionCtx;
         this.assignedBaracoMethod = baracoMethod;
@@ -36,6 +38,8 @@ public class ReturnCommand implements ICommand {
 
         TypeChecker typeChecker = new TypeChecker(baracoValue, this.expressionCtx);
         typeChecker.verify();
+
+        this.evaluationCommand = new EvaluationCommand(this.expressionCtx);
     }
 
     /* (non-Javadoc)
@@ -43,13 +47,13 @@ public class ReturnCommand implements ICommand {
      */
     @Override
     public void execute() {
-        EvaluationCommand evaluationCommand = new EvaluationCommand(this.expressionCtx);
+        EvaluationCommand evaluationCommand = this.evaluationCommand;
         evaluationCommand.execute();
 
         BaracoValue baracoValue = this.assignedBaracoMethod.getReturnValue();
 
         if (evaluationCommand.isNumericResult())
-            AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand.getResult());
+            AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand);
         else
             AssignmentUtils.assignAppropriateValue(baracoValue, evaluationCommand.getStringResult());
         //Console.log(LogType.DEBUG,"Return value is: " +evaluationCommand.getResult().toEngineeringString());
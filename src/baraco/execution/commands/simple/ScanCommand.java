@@ -9,37 +9,41 @@ import baraco.execution.commands.ICommand;
 import baraco.execution.commands.evaluation.MappingCommand;
 import baraco.representations.BaracoArray;
 import baraco.representations.BaracoValue;
-import baraco.representations.BaracoValueSearcher;
-import baraco.semantics.searching.VariableSearcher;
+import baraco.semantics.searching.VariableReference;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.ClassScope;
 import baraco.semantics.utils.StringUtils;
+import baraco.utils.logging.Log;
 import baraco.utils.notifications.*;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 public class ScanCommand implements ICommand, NotificationListener {
 
-    //private final static String TAG = "MobiProg_ScanCommand";
+    private final static String TAG = "MobiProg_ScanCommand";
 
     private String messageToDisplay;
     private String identifier;
     private BaracoParser.ExpressionContext array;
+    private EvaluationCommand arrayIndexEvaluation;
+    private VariableReference variableReference;
 
     public ScanCommand(String messageToDisplay, String identifier) {
         this.messageToDisplay = StringUtils.removeQuotes(messageToDisplay);
         this.identifier = identifier;
-
+        this.variableReference = new VariableReference(identifier);
     }
 
     public ScanCommand(String messageToDisplay, BaracoParser.ExpressionContext array, String identifier) {
         this.messageToDisplay = StringUtils.removeQuotes(messageToDisplay);
         this.array = array;
         this.identifier = identifier;
+        this.arrayIndexEvaluation = new EvaluationCommand(array);
+        this.variableReference = new VariableReference(identifier);
     }
 
     @Override
     public void execute() {
-        System.out.println("Found scan statement");
+        Log.d(TAG, "Found scan statement");
         NotificationCenter.getInstance().addObserver(Notifications.ON_SCAN_DIALOG_DISMISSED, this); //add an observer to listen to when the dialog has been dismissed
 
         Parameters params = new Parameters();
@@ -56,7 +60,7 @@ public class ScanCommand implements ICommand, NotificationListener {
         boolean success;
 
         if(this.array == null) {
-            BaracoValue baracoValue = BaracoValueSearcher.searchBaracoValue(identifier);
+            BaracoValue baracoValue = this.variableReference.getBaracoValue();
             //insert if array here
             try {
                 baracoValue.setValue(valueEntered);
@@ -88,18 +92,16 @@ public class ScanCommand implements ICommand, NotificationListener {
     }
 
     private void handleArrayAssignment(String resultString) {
-        BaracoParser.ExpressionContext arrayIndexExprCtx = this.array;
-
-        BaracoValue baracoValue = VariableSearcher.searchVariable(this.identifier);
+        BaracoValue baracoValue = this.variableReference.getBaracoValue();
         BaracoArray baracoArray = (BaracoArray) baracoValue.getValue();
 
-        EvaluationCommand evaluationCommand = new EvaluationCommand(arrayIndexExprCtx);
+        EvaluationCommand evaluationCommand = this.arrayIndexEvaluation;
         evaluationCommand.execute();
 
         //create a new array value to replace value at specified index
         BaracoValue newArrayValue = new BaracoValue(null, baracoArray.getPrimitiveType());
         newArrayValue.setValue(resultString);
-        baracoArray.updateValueAt(newArrayValue, evaluationCommand.getResult().intValue());
+        baracoArray.updateValueAt(newArrayValue, evaluationCommand.getIntResult());
 
         //Console.log("Index to access: " +evaluationCommand.getResult().intValue()+ " Updated with: " +resultString);
     }
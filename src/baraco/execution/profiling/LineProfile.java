@@ -0,0 +1,34 @@
+package baraco.execution.profiling;
+
+/**
+ * What the profiler measured for the commands of one source line. Inclusive time includes the commands nested
+ * inside, such as the body of a loop, while exclusive time does not.
+ */
+public class LineProfile {
+
+    private final int lineNumber;
+
+    long executionCount = 0;
+    long inclusiveNanos = 0;
+    long exclusiveNanos = 0;
+
+    LineProfile(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    public long getExecutionCount() {
+        return this.executionCount;
+    }
+
+    public long getInclusiveNanos() {
+        return this.inclusiveNanos;
+    }
+
+    public long getExclusiveNanos() {
+        return this.exclusiveNanos;
+    }
+}
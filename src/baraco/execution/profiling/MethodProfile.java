@@ -0,0 +1,33 @@
+package baraco.execution.profiling;
+
+/**
+ * What the profiler measured for one method. Inclusive time includes the methods it called, while exclusive time does not.
+ */
+public class MethodProfile {
+
+    private final String methodName;
+
+    long callCount = 0;
+    long inclusiveNanos = 0;
+    long exclusiveNanos = 0;
+
+    MethodProfile(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public String getMethodName() {
+        return this.methodName;
+    }
+
+    public long getCallCount() {
+        return this.callCount;
+    }
+
+    public long getInclusiveNanos() {
+        return this.inclusiveNanos;
+    }
+
+    public long getExclusiveNanos() {
+        return this.exclusiveNanos;
+    }
+}
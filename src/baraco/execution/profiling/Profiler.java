@@ -0,0 +1,251 @@
+package baraco.execution.profiling;
+
+import baraco.execution.ExecutionContext;
+import baraco.execution.commands.ICommand;
+import baraco.representations.BaracoMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Counts how many times each source line and method is executed and how long it takes. Lines are known through
+ * the commands registered while building, so profiling has to be enabled before the program is built.
+ * When profiling is disabled, the execution monitor has no profiler and the only cost is a null check per command.
+ *
+ * Measurements are only made and read on the execution thread, or after it has finished.
+ * Profiling can be enabled by default with -Dbaraco.profile=true.
+ */
+public class Profiler {
+
+    private final static String TAG = "Profiler";
+
+    private final static int INITIAL_DEPTH = 64;
+
+    public static Profiler getInstance() {
+        return ExecutionContext.getCurrent().getProfiler();
+    }
+
+    private volatile boolean enabled = Boolean.getBoolean("baraco.profile");
+
+    private final IdentityHashMap<ICommand, LineProfile> commandLines = new IdentityHashMap<ICommand, LineProfile>();
+    private final HashMap<Integer, LineProfile> lineProfiles = new HashMap<Integer, LineProfile>();
+    private final IdentityHashMap<BaracoMethod, MethodProfile> methodProfiles = new IdentityHashMap<BaracoMethod, MethodProfile>();
+
+    //time spent in nested commands and methods, for each active command and method
+    private long[] commandNestedNanos = new long[INITIAL_DEPTH];
+    private int commandDepth = 0;
+    private long[] methodStartNanos = new long[INITIAL_DEPTH];
+    private long[] methodNestedNanos = new long[INITIAL_DEPTH];
+    private int methodDepth = 0;
+
+    private final IdentityHashMap<MethodProfile, Integer> activeMethodCalls = new IdentityHashMap<MethodProfile, Integer>();
+    private final IdentityHashMap<LineProfile, Integer> activeLineExecutions = new IdentityHashMap<LineProfile, Integer>();
+
+    public Profiler() {
+
+    }
+
+    /*
+     * Discards the registered commands and the measurements. Called before a program is built.
+     */
+    public static void reset() {
+        Profiler profiler = getInstance();
+        profiler.commandLines.clear();
+        profiler.lineProfiles.clear();
+        profiler.startRun();
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean flag) {
+        this.enabled = flag;
+    }
+
+    /*
+     * Reported by the analyzers for every command they create, with the line the command starts on.
+     */
+    public void registerCommand(ICommand command, int lineNumber) {
+        if(!this.enabled) {
+            return;
+        }
+
+        LineProfile lineProfile = this.lineProfiles.get(lineNumber);
+
+        if(lineProfile == null) {
+            lineProfile = new LineProfile(lineNumber);
+            this.lineProfiles.put(lineNumber, lineProfile);
+        }
+
+        this.commandLines.put(command, lineProfile);
+    }
+
+    /*
+     * Discards the measurements of the previous run, keeping the registered commands.
+     */
+    public void startRun() {
+        for(LineProfile lineProfile : this.lineProfiles.values()) {
+            lineProfile.executionCount = 0;
+            lineProfile.inclusiveNanos = 0;
+            lineProfile.exclusiveNanos = 0;
+        }
+
+        this.methodProfiles.clear();
+        this.activeMethodCalls.clear();
+        this.activeLineExecutions.clear();
+        this.commandDepth = 0;
+        this.methodDepth = 0;
+    }
+
+    /*
+     * Executes the command, adding its time to its line. Commands that were not registered are executed as is,
+     * and their time counts towards the command that contains them.
+     */
+    public void executeCommand(ICommand command) {
+        LineProfile lineProfile = this.commandLines.get(command);
+
+        if(lineProfile == null) {
+            command.execute();
+            return;
+        }
+
+        if(this.commandDepth == this.commandNestedNanos.length) {
+            this.commandNestedNanos = Arrays.copyOf(this.commandNestedNanos, this.commandDepth * 2);
+        }
+
+        this.commandNestedNanos[this.commandDepth++] = 0;
+        boolean outermost = enter(this.activeLineExecutions, lineProfile);
+        long start = System.nanoTime();
+
+        try {
+            command.execute();
+        }
+        finally {
+            long elapsed = System.nanoTime() - start;
+            long nested = this.commandNestedNanos[--this.commandDepth];
+
+            lineProfile.executionCount++;
+            lineProfile.exclusiveNanos += elapsed - nested;
+
+            //a recursive call executes the same line again while it is still running, so only the outermost execution counts
+            if(outermost) {
+                lineProfile.inclusiveNanos += elapsed;
+            }
+
+            exit(this.activeLineExecutions, lineProfile);
+
+            if(this.commandDepth > 0) {
+                this.commandNestedNanos[this.commandDepth - 1] += elapsed;
+            }
+        }
+    }
+
+    public void enterMethod(BaracoMethod baracoMethod) {
+        MethodProfile methodProfile = this.methodProfiles.get(baracoMethod);
+
+        if(methodProfile == null) {
+            methodProfile = new MethodProfile(baracoMethod.getMethodName());
+            this.methodProfiles.put(baracoMethod, methodProfile);
+        }
+
+        if(this.methodDepth == this.methodStartNanos.length) {
+            this.methodStartNanos = Arrays.copyOf(this.methodStartNanos, this.methodDepth * 2);
+            this.methodNestedNanos = Arrays.copyOf(this.methodNestedNanos, this.methodDepth * 2);
+        }
+
+        enter(this.activeMethodCalls, methodProfile);
+        this.methodNestedNanos[this.methodDepth] = 0;
+        this.methodStartNanos[this.methodDepth++] = System.nanoTime();
+    }
+
+    public void exitMethod(BaracoMethod baracoMethod) {
+        MethodProfile methodProfile = this.methodProfiles.get(baracoMethod);
+
+        if(methodProfile == null || this.methodDepth == 0) {
+            return;
+        }
+
+        this.methodDepth--;
+        long elapsed = System.nanoTime() - this.methodStartNanos[this.methodDepth];
+        long nested = this.methodNestedNanos[this.methodDepth];
+
+        methodProfile.callCount++;
+        methodProfile.exclusiveNanos += elapsed - nested;
+
+        if(exit(this.activeMethodCalls, methodProfile)) {
+            methodProfile.inclusiveNanos += elapsed;
+        }
+
+        if(this.methodDepth > 0) {
+            this.methodNestedNanos[this.methodDepth - 1] += elapsed;
+        }
+    }
+
+    /*
+     * Returns true if the profile was not active yet.
+     */
+    private static <T> boolean enter(IdentityHashMap<T, Integer> activeCounts, T profile) {
+        Integer count = activeCounts.get(profile);
+        activeCounts.put(profile, count == null ? 1 : count + 1);
+
+        return count == null;
+    }
+
+    /*
+     * Returns true if the profile is no longer active.
+     */
+    private static <T> boolean exit(IdentityHashMap<T, Integer> activeCounts, T profile) {
+        Integer count = activeCounts.get(profile);
+
+        if(count == null || count <= 1) {
+            activeCounts.remove(profile);
+            return true;
+        }
+
+        activeCounts.put(profile, count - 1);
+        return false;
+    }
+
+    /*
+     * Returns the lines that were executed, in source order.
+     */
+    public List<LineProfile> getLineProfiles() {
+        List<LineProfile> executedLines = new ArrayList<LineProfile>();
+
+        for(LineProfile lineProfile : this.lineProfiles.values()) {
+            if(lineProfile.executionCount > 0) {
+                executedLines.add(lineProfile);
+            }
+        }
+
+        executedLines.sort(Comparator.comparingInt(LineProfile::getLineNumber));
+
+        return executedLines;
+    }
+
+    /*
+     * Returns at most the given number of lines, the ones with the most exclusive time first.
+     */
+    public List<LineProfile> getHotLines(int count) {
+        List<LineProfile> hotLines = this.getLineProfiles();
+        hotLines.sort(Collections.reverseOrder(Comparator.comparingLong(LineProfile::getExclusiveNanos)));
+
+        return hotLines.subList(0, Math.min(count, hotLines.size()));
+    }
+
+    /*
+     * Returns the methods that were called, the ones with the most exclusive time first.
+     */
+    public List<MethodProfile> getMethodProfiles() {
+        List<MethodProfile> methodProfiles = new ArrayList<MethodProfile>(this.methodProfiles.values());
+        methodProfiles.sort(Collections.reverseOrder(Comparator.comparingLong(MethodProfile::getExclusiveNanos)));
+
+        return methodProfiles;
+    }
+}
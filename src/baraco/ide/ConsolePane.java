@@ -0,0 +1,150 @@
+package baraco.ide;
+
+import baraco.antlr.error.BaracoError;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import org.fxmisc.flowless.VirtualizedScrollPane;
+import org.fxmisc.richtext.CharacterHit;
+import org.fxmisc.richtext.StyleClassedTextArea;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * The console of the IDE. Output is kept in a read-only rich text area, which only creates nodes for the
+ * lines currently on screen, and the oldest lines are dropped once the scrollback limit is reached.
+ * Clicking the line reference of an error selects that line in the editor.
+ */
+public class ConsolePane {
+
+    public final static int DEFAULT_SCROLLBACK_LINES = 10000;
+
+    private final static String ERROR_STYLE = "console-error";
+    private final static String ERROR_LINK_STYLE = "console-error-link";
+
+    private final StyleClassedTextArea textArea;
+    private final VirtualizedScrollPane<StyleClassedTextArea> scrollPane;
+    private final int scrollbackLines;
+
+    private final ArrayDeque<ErrorLink> errorLinks = new ArrayDeque<ErrorLink>(); //oldest first
+    private long trimmedLength = 0; //characters dropped from the top since the console was cleared
+
+    public ConsolePane(int scrollbackLines) {
+        this.scrollbackLines = scrollbackLines;
+
+        this.textArea = new StyleClassedTextArea();
+        this.textArea.setEditable(false);
+        this.textArea.setWrapText(true);
+        this.textArea.setUseInitialStyleForInsertion(true);
+        this.textArea.getStyleClass().add("console");
+        this.textArea.setOnMouseClicked(event -> {
+            if(event.getButton() == MouseButton.PRIMARY) {
+                this.followErrorLink(this.textArea.hit(event.getX(), event.getY()));
+            }
+        });
+
+        this.scrollPane = new VirtualizedScrollPane<StyleClassedTextArea>(this.textArea);
+    }
+
+    public Node getNode() {
+        return this.scrollPane;
+    }
+
+    public void appendText(String text) {
+        this.append(text, null);
+        this.trimScrollback();
+        this.scrollToEnd();
+    }
+
+    public void appendError(BaracoError error) {
+        this.append(error.getErrorPrefix(), ERROR_STYLE);
+
+        if(error.getLineLayout() != null && !error.getLineLayout().isEmpty()) {
+            long start = this.trimmedLength + this.textArea.getLength();
+            this.append(error.getLineLayout(), ERROR_LINK_STYLE);
+            this.errorLinks.addLast(new ErrorLink(start, this.trimmedLength + this.textArea.getLength(), error));
+        }
+
+        this.append(error.getErrorSuffix(), ERROR_STYLE);
+        this.append("\n", null);
+
+        this.trimScrollback();
+        this.scrollToEnd();
+    }
+
+    public void clear() {
+        this.textArea.clear();
+        this.errorLinks.clear();
+        this.trimmedLength = 0;
+    }
+
+    private void append(String text, String styleClass) {
+        if(text == null || text.isEmpty()) {
+            return;
+        }
+
+        int start = this.textArea.getLength();
+        this.textArea.appendText(text);
+
+        if(styleClass != null) {
+            this.textArea.setStyleClass(start, this.textArea.getLength(), styleClass);
+        }
+    }
+
+    /*
+     * Drops the oldest lines once there are more than the scrollback limit, along with the links inside them.
+     */
+    private void trimScrollback() {
+        int excessLines = this.textArea.getParagraphs().size() - this.scrollbackLines;
+
+        if(excessLines <= 0) {
+            return;
+        }
+
+        int removedLength = this.textArea.position(excessLines, 0).toOffset();
+        this.textArea.deleteText(0, removedLength);
+        this.trimmedLength += removedLength;
+
+        Iterator<ErrorLink> iterator = this.errorLinks.iterator();
+        while(iterator.hasNext() && iterator.next().end <= this.trimmedLength) {
+            iterator.remove();
+        }
+    }
+
+    private void scrollToEnd() {
+        this.textArea.moveTo(this.textArea.getLength());
+        this.textArea.requestFollowCaret();
+    }
+
+    private void followErrorLink(CharacterHit hit) {
+        long position = this.trimmedLength + hit.getCharacterIndex().orElse(hit.getInsertionIndex());
+
+        for(ErrorLink errorLink : this.errorLinks) {
+            if(position >= errorLink.start && position < errorLink.end) {
+                BaracoError e = errorLink.error;
+
+                if (e.getCharNumber() != -1)
+                    View.highlightLineInEditor(e.getLineNumber() - 1, e.getCharNumber(), e.getLineNumber() - 1, e.getCharNumber() + 1);
+                else
+                    View.highlightLineInEditor(e.getLineNumber() - 1, 1, e.getLineNumber() - 1, 1);
+
+                return;
+            }
+        }
+    }
+
+    /*
+     * The range of an error's line reference, counted from the first character printed since the console was cleared.
+     */
+    private static class ErrorLink {
+        private final long start;
+        private final long end;
+        private final BaracoError error;
+
+        private ErrorLink(long start, long end, BaracoError error) {
+            this.start = start;
+            this.end = end;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package baraco.ide;
+
+import baraco.execution.profiling.LineProfile;
+import javafx.scene.Node;
+import javafx.scene.control.Tooltip;
+import org.fxmisc.richtext.CodeArea;
+import org.fxmisc.richtext.LineNumberFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Draws the line numbers of the editor with a background that gets redder the more time the last profiled run
+ * spent on that line, not counting nested statements and calls. Hovering a line number shows its measurements.
+ */
+public class ProfileHeatmapFactory implements IntFunction<Node> {
+
+    private final static double MIN_OPACITY = 0.1; //so that a line that was executed is always visible
+
+    private final IntFunction<Node> lineNumberFactory;
+    private final HashMap<Integer, LineProfile> lineProfiles = new HashMap<Integer, LineProfile>();
+    private long hottestNanos = 0;
+
+    public ProfileHeatmapFactory(CodeArea editor, List<LineProfile> lineProfiles) {
+        this.lineNumberFactory = LineNumberFactory.get(editor);
+
+        for(LineProfile lineProfile : lineProfiles) {
+            this.lineProfiles.put(lineProfile.getLineNumber(), lineProfile);
+            this.hottestNanos = Math.max(this.hottestNanos, lineProfile.getExclusiveNanos());
+        }
+    }
+
+    @Override
+    public Node apply(int paragraphIndex) {
+        Node lineNumber = this.lineNumberFactory.apply(paragraphIndex);
+        LineProfile lineProfile = this.lineProfiles.get(paragraphIndex + 1);
+
+        if(lineProfile != null) {
+            double heat = this.hottestNanos > 0 ? (double) lineProfile.getExclusiveNanos() / this.hottestNanos : 0;
+            double opacity = MIN_OPACITY + (1 - MIN_OPACITY) * heat;
+
+            lineNumber.setStyle(String.format("-fx-background-color: rgba(230, 60, 30, %.2f);", opacity));
+            Tooltip.install(lineNumber, new Tooltip(String.format("Executed %d times\nSelf: %.3f ms\nTotal: %.3f ms",
+                    lineProfile.getExecutionCount(), lineProfile.getExclusiveNanos() / 1000000.0,
+                    lineProfile.getInclusiveNanos() / 1000000.0)));
+        }
+
+        return lineNumber;
+    }
+}
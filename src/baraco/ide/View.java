@@ -1,17 +1,17 @@
 package baraco.ide;
 
-import baraco.builder.BuildChecker;
 import baraco.controller.Controller;
-import baraco.execution.ExecutionManager;
-import baraco.execution.MethodTracker;
 import baraco.execution.commands.EvaluationCommand;
 import baraco.execution.commands.MethodList;
+import baraco.execution.profiling.Profiler;
 import baraco.file.FileHandler;
 import baraco.ide.dialogs.*;
-import baraco.semantics.statements.StatementControlOverseer;
-import baraco.semantics.symboltable.SymbolTableManager;
-import baraco.semantics.symboltable.scopes.LocalScopeCreator;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.utils.console.Console;
+import baraco.utils.console.OutputBuffer;
+import baraco.utils.metrics.InterpreterMetrics;
+import baraco.utils.notifications.NotificationCenter;
+import baraco.utils.notifications.Notifications;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
@@ -19,10 +19,6 @@ import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.Text;
-import javafx.scene.text.TextFlow;
 import javafx.stage.Stage;
 import org.fxmisc.flowless.VirtualizedScrollPane;
 import org.fxmisc.richtext.CodeArea;
@@ -72,7 +68,9 @@ public class View extends Application {
     public static CodeArea editor;
     private GridPane gridPane;
     private ExecutorService executor;
-    public static TextFlow console;
+    public static ConsolePane console;
+    private final static OutputBuffer consoleOutput = new OutputBuffer();
+    private final static int MAX_CONSOLE_CHARS_PER_FRAME = 64 * 1024;
     private FileHandler fileHandler;
     private Stage stage;
     private String currentFileName;
@@ -91,15 +89,12 @@ public class View extends Application {
         primaryStage.setScene(setupComponents());
         primaryStage.show();
 
+        InterpreterMetrics.register();
         this.scanDialogHandler = new ScanDialogHandler();
-
-        SymbolTableManager.initialize();
-        BuildChecker.initialize();
-        ExecutionManager.initialize();
-        LocalScopeCreator.initialize();
-        StatementControlOverseer.initialize();
-        MethodTracker.initialize();
-        LocalVarTracker.initialize();
+        NotificationCenter.getInstance().addAsyncObserver(Notifications.ON_EXECUTION_FINISHED,
+                (notificationString, params) -> Platform.runLater(this::showProfileHeatmap));
+        Console.setOutputSink(consoleOutput);
+        this.startConsoleRefresh();
     }
 
     public static void main(String[] args) {
@@ -258,7 +253,12 @@ public class View extends Application {
         refactorItem.setOnAction(event -> {
             this.refactor();
         });
-        menuCode.getItems().addAll(generateMethodItem, generateStatementItem, refactorItem);
+        CheckMenuItem profileItem = new CheckMenuItem("Profile");
+        profileItem.setSelected(Profiler.getInstance().isEnabled());
+        profileItem.setOnAction(event -> {
+            Profiler.getInstance().setEnabled(profileItem.isSelected());
+        });
+        menuCode.getItems().addAll(generateMethodItem, generateStatementItem, refactorItem, new SeparatorMenuItem(), profileItem);
 
         // Run button
         Menu menuRun = new Menu();
@@ -268,8 +268,16 @@ public class View extends Application {
         });
         menuRun.setGraphic(runLabel);
 
+        // Stop button
+        Menu menuStop = new Menu();
+        Label stopLabel = new Label("Stop");
+        stopLabel.setOnMouseClicked(event -> {
+            controller.stop();
+        });
+        menuStop.setGraphic(stopLabel);
+
         // Add menus to menubar
-        menuBar.getMenus().addAll(menuFile, menuEdit, menuCode, menuRun);
+        menuBar.getMenus().addAll(menuFile, menuEdit, menuCode, menuRun, menuStop);
 
         return menuBar;
     }
@@ -281,52 +289,71 @@ public class View extends Application {
         editor.selectRange(startPos, endPos);
     }
 
+    /*
+     * Queues text for the console. It is shown on the next frame, together with anything else printed since the last one.
+     */
     public static void printInConsole(String text) {
-        Text error = new Text(text);
-        error.setFont(Font.font("Courier", 14));
-
-
-        Platform.runLater(() -> {
-            console.getChildren().add(error);
-        });
+        consoleOutput.print(text);
     }
 
     public static void appendErrorInConsole(BaracoError e) {
+        consoleOutput.printError(e);
+    }
 
-        Text errorPrefix = new Text(e.getErrorPrefix());
-        errorPrefix.setFont(Font.font("Courier", 14));
+    /*
+     * Drains the queued console output once per frame on the JavaFX application thread.
+     */
+    private void startConsoleRefresh() {
+        ViewOutputSink viewOutputSink = new ViewOutputSink();
 
-        Hyperlink line = new Hyperlink(e.getLineLayout());
-        line.setFont(Font.font("Courier", 14));
-        Text errorSuffix = new Text(e.getErrorSuffix());
-        errorSuffix.setFont(Font.font("Courier", 14));
-        errorPrefix.setFill(Color.RED);
-        errorSuffix.setFill(Color.RED);
+        AnimationTimer consoleRefresh = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                consoleOutput.drainTo(viewOutputSink, MAX_CONSOLE_CHARS_PER_FRAME);
+            }
+        };
+        consoleRefresh.start();
+    }
 
-        line.setOnAction(event -> {
-            if (e.getCharNumber() != -1)
-                highlightLineInEditor(e.getLineNumber() - 1, e.getCharNumber(), e.getLineNumber() - 1, e.getCharNumber() + 1);
-            else
-                highlightLineInEditor(e.getLineNumber() - 1, 1, e.getLineNumber() - 1, 1);
+    /*
+     * Adds text to the console. Must be called on the JavaFX application thread.
+     */
+    static void addTextToConsole(String text) {
+        console.appendText(text);
+    }
 
-        });
+    /*
+     * Adds an error with a link to its line to the console. Must be called on the JavaFX application thread.
+     */
+    static void addErrorToConsole(BaracoError e) {
+        console.appendError(e);
+    }
 
-        Platform.runLater(() -> {
-            console.getChildren().add(errorPrefix);
-            console.getChildren().add(line);
-            console.getChildren().add(errorSuffix);
-            console.getChildren().add(new Text("\n"));
-        });
+    /*
+     * Colors the line numbers of the editor by the time spent on each line, if the last run was profiled.
+     */
+    public void showProfileHeatmap() {
+        Profiler profiler = Profiler.getInstance();
 
+        if(profiler.isEnabled()) {
+            editor.setParagraphGraphicFactory(new ProfileHeatmapFactory(editor, profiler.getLineProfiles()));
+        }
+    }
+
+    public void hideProfileHeatmap() {
+        editor.setParagraphGraphicFactory(LineNumberFactory.get(editor));
     }
 
     public void resetConsole() {
-        Text consoleText = new Text("Console: \n");
-        consoleText.setFont(Font.font("Courier", 12));
-        console = new TextFlow(consoleText);
-        ScrollPane consoleScroll = new ScrollPane(console);
-        consoleScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.ALWAYS);
-        gridPane.add(consoleScroll, 0, 2, GridPane.REMAINING, 1);
+        consoleOutput.clear();
+
+        if(console == null) {
+            console = new ConsolePane(Integer.getInteger("baraco.console.scrollback", ConsolePane.DEFAULT_SCROLLBACK_LINES));
+            gridPane.add(console.getNode(), 0, 2, GridPane.REMAINING, 1);
+        }
+
+        console.clear();
+        console.appendText("Console: \n");
     }
 
     // Start of code for editor keyword highlighting
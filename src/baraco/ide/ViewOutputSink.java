@@ -0,0 +1,21 @@
+package baraco.ide;
+
+import baraco.antlr.error.BaracoError;
+import baraco.utils.console.IOutputSink;
+
+/**
+ * Writes program output and errors to the console pane of the IDE. Used on the JavaFX application thread
+ * to drain the console's output buffer.
+ */
+public class ViewOutputSink implements IOutputSink {
+
+    @Override
+    public void print(String text) {
+        View.addTextToConsole(text);
+    }
+
+    @Override
+    public void printError(BaracoError error) {
+        View.addErrorToConsole(error);
+    }
+}
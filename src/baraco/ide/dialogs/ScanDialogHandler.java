@@ -7,7 +7,6 @@ import javafx.application.Platform;
 import javafx.scene.control.TextInputDialog;
 
 import javax.swing.text.html.Option;
-import java.util.ConcurrentModificationException;
 import java.util.Optional;
 
 import static baraco.utils.notifications.KeyNames.VALUE_ENTERED_KEY;
@@ -23,15 +22,16 @@ public class ScanDialogHandler implements NotificationListener {
         dialog.setHeaderText(null);
         dialog.getDialogPane().getButtonTypes().remove(1);
 
-        NotificationCenter.getInstance().addObserver(Notifications.ON_FOUND_SCAN_STATEMENT, this);
+        NotificationCenter.getInstance().addAsyncObserver(Notifications.ON_FOUND_SCAN_STATEMENT, this);
     }
 
     private void showScanDialog(Parameters params) throws InterruptedException {
-        dialog.getEditor().setText("");
-        dialog.setContentText(params.getStringExtra(KeyNames.MESSAGE_DISPLAY_KEY, "Input: "));
+        String messageToDisplay = params.getStringExtra(KeyNames.MESSAGE_DISPLAY_KEY, "Input: ");
 
         // Traditional way to get the response value.
         Platform.runLater(()-> {
+                dialog.getEditor().setText("");
+                dialog.setContentText(messageToDisplay);
 
                 Optional<String> result = dialog.showAndWait();
 
@@ -39,18 +39,10 @@ public class ScanDialogHandler implements NotificationListener {
                     Parameters parameters = new Parameters();
                     parameters.putExtra(VALUE_ENTERED_KEY, result.get());
 
-                    try {
-                        NotificationCenter.getInstance().postNotification(Notifications.ON_SCAN_DIALOG_DISMISSED, parameters); //report back results to scan command
-                    }catch (ConcurrentModificationException cmeX){
-
-                    }
+                    NotificationCenter.getInstance().postNotification(Notifications.ON_SCAN_DIALOG_DISMISSED, parameters); //report back results to scan command
 
                 } else {
-                    try {
-                        NotificationCenter.getInstance().postNotification(Notifications.ON_SCAN_DIALOG_DISMISSED); //report back results to scan command
-                    }catch (ConcurrentModificationException cmeX){
-
-                    }
+                    NotificationCenter.getInstance().postNotification(Notifications.ON_SCAN_DIALOG_DISMISSED); //report back results to scan command
                 }
 
         });
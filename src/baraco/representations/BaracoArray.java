@@ -35,9 +35,21 @@ public class BaracoArray {
         return this.finalFlag;
     }
 
+    /*
+     * Creates the elements of the array. Numeric and boolean elements start at the zero value of their type,
+     * so that an element can be read before it is assigned.
+     */
     public void initializeSize(int size) {
         try {
             this.baracoValueArray = new BaracoValue[size];
+
+            Object zeroValue = getZeroValue(this.arrayPrimitiveType);
+
+            if(zeroValue != null) {
+                for(int i = 0; i < size; i++) {
+                    this.baracoValueArray[i] = new BaracoValue(zeroValue, this.arrayPrimitiveType);
+                }
+            }
         } catch (NegativeArraySizeException ex) {
             this.baracoValueArray = null;
 
@@ -73,6 +85,18 @@ public class BaracoArray {
         }
     }
 
+    /*
+     * Returns the value an element of the given type starts with, or null if it starts without a value.
+     */
+    private static Object getZeroValue(PrimitiveType primitiveType) {
+        switch(primitiveType) {
+            case INT: return 0;
+            case DECIMAL: return 0.0;
+            case BOOL: return false;
+            default: return null;
+        }
+    }
+
     /*
      * Utility function that returns an arary of specified primitive type.
      */
@@ -11,12 +11,14 @@ import baraco.execution.commands.evaluation.AssignmentCommand;
 import baraco.execution.commands.evaluation.MappingCommand;
 import baraco.execution.commands.simple.IncDecCommand;
 import baraco.execution.commands.simple.ReturnCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.representations.BaracoValue.PrimitiveType;
-import baraco.semantics.searching.VariableSearcher;
+import baraco.semantics.statements.ReturnReachability;
 import baraco.semantics.symboltable.scopes.ClassScope;
 import baraco.semantics.symboltable.scopes.LocalScope;
 import baraco.antlr.parser.BaracoParser.ExpressionContext;
-import baraco.semantics.utils.LocalVarTracker;
+import baraco.utils.logging.Log;
+import baraco.utils.metrics.InterpreterMetrics;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -48,10 +50,17 @@ public class BaracoMethod implements IControlledCommand{
 
     private boolean hasValidReturns = true;
 
+    private List<BaracoValue> slotDeclarations; //the parameters and local variables, indexed by their slot in a frame
+    private ValueCell[] activeFrame; //the frame of the invocation currently executing. null if not running.
+    private ValueCell[] pendingFrame; //the frame being filled with parameters before the next invocation
+    private Stack<ValueCell[]> suspendedFrames; //the frames of recursive invocations waiting for a return
+
     public BaracoMethod() {
         this.commandSequences = new ArrayList<ICommand>();
         this.parameterValues = new LinkedHashMap<String, BaracoValue>();
         this.parameterReferences = new LinkedHashMap<String, ClassScope>();
+        this.slotDeclarations = new ArrayList<BaracoValue>();
+        this.suspendedFrames = new Stack<ValueCell[]>();
     }
 
     public void setParentLocalScope(LocalScope localScope) {
@@ -102,18 +111,20 @@ public class BaracoMethod implements IControlledCommand{
 	 */
     public void mapParameterByValue(String... values) {
         for(int i = 0; i < values.length; i++) {
-            BaracoValue baracoValue = this.getParameterAt(i);
-            baracoValue.setValue(values[i]);
+            this.mapParameterByValueAt(values[i], i);
         }
     }
 
+    /*
+     * Parameters are copied into the frame of the next invocation, so arguments must all be evaluated before mapping.
+     */
     public void mapParameterByValueAt(String value, int index) {
         if(index >= this.parameterValues.size()) {
             return;
         }
 
         BaracoValue baracoValue = this.getParameterAt(index);
-        baracoValue.setValue(value);
+        baracoValue.setValue(this.getPendingFrame()[baracoValue.getSlot()], value);
     }
 
     public void mapArrayAt(BaracoValue baracoValue, int index, String identifier) {
@@ -132,8 +143,8 @@ public class BaracoMethod implements IControlledCommand{
             newArray.updateValueAt(baracoArray.getValueAt(i), i);
         }*/
 
-        this.parameterValues.put(this.getParameterKeyAt(index), baracoValue);
-
+        BaracoValue parameterValue = this.getParameterAt(index);
+        this.getPendingFrame()[parameterValue.getSlot()].setObject(baracoValue.getValue());
     }
 
     public int getParameterValueSize() {
@@ -159,7 +170,47 @@ public class BaracoMethod implements IControlledCommand{
 
     public void addParameter(String identifierString, BaracoValue baracoValue) {
         this.parameterValues.put(identifierString, baracoValue);
-        System.out.println(this.methodName + " added an empty parameter " +identifierString+ " type " + baracoValue.getPrimitiveType());
+        this.declareSlot(baracoValue);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, this.methodName + " added an empty parameter " +identifierString+ " type " + baracoValue.getPrimitiveType());
+        }
+    }
+
+    /*
+     * Reports a local variable declared inside this method so that every invocation gets its own copy.
+     */
+    public void addLocalVariable(BaracoValue baracoValue) {
+        this.declareSlot(baracoValue);
+    }
+
+    private void declareSlot(BaracoValue baracoValue) {
+        baracoValue.bindToSlot(this, this.slotDeclarations.size());
+        this.slotDeclarations.add(baracoValue);
+    }
+
+    /*
+     * Creates a frame holding the declared value of every slot.
+     */
+    private ValueCell[] createFrame() {
+        ValueCell[] frame = new ValueCell[this.slotDeclarations.size()];
+
+        for(int i = 0; i < frame.length; i++) {
+            frame[i] = this.slotDeclarations.get(i).createFrameCell();
+        }
+
+        return frame;
+    }
+
+    private ValueCell[] getPendingFrame() {
+        if(this.pendingFrame == null) {
+            this.pendingFrame = this.createFrame();
+        }
+
+        return this.pendingFrame;
+    }
+
+    ValueCell[] getActiveFrame() {
+        return this.activeFrame;
     }
 
     public boolean hasParameter(String identifierString) {
@@ -170,7 +221,9 @@ public class BaracoMethod implements IControlledCommand{
             return this.parameterValues.get(identifierString);
         }
         else {
-            System.out.println(TAG + ": " + identifierString + " not found in parameter list");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, identifierString + " not found in parameter list");
+            }
             return null;
         }
     }
@@ -186,28 +239,17 @@ public class BaracoMethod implements IControlledCommand{
             i++;
         }
 
-        System.out.println(TAG + ": " + index + " has exceeded parameter list.");
-        return null;
-    }
-
-    private String getParameterKeyAt(int index) {
-        int i = 0;
-
-        for(String key : this.parameterValues.keySet()) {
-            if(i == index) {
-                return key;
-            }
-
-            i++;
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, index + " has exceeded parameter list.");
         }
-
-        System.out.println(TAG + ": " + index + " has exceeded parameter list.");
         return null;
     }
 
     public BaracoValue getReturnValue() {
         if(this.returnType == MethodType.VOID_TYPE) {
-            System.out.println(this.methodName + " is a void function. Null mobi value is returned");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, this.methodName + " is a void function. Null mobi value is returned");
+            }
             return null;
         }
         else {
@@ -217,6 +259,10 @@ public class BaracoMethod implements IControlledCommand{
 
     @Override
     public void addCommand(ICommand command) {
+        if(!ReturnReachability.isReachable(this.commandSequences)) {
+            return;
+        }
+
         this.commandSequences.add(command);
         //Console.log("Command added to " +this.functionName);
     }
@@ -226,14 +272,21 @@ public class BaracoMethod implements IControlledCommand{
         ExecutionMonitor executionMonitor = ExecutionManager.getInstance().getExecutionMonitor();
         MethodTracker.getInstance().reportEnterFunction(this);
 
-        LocalVarTracker.getInstance().startNewSession();
+        Profiler profiler = executionMonitor.getProfiler();
+
+        if(profiler != null) {
+            profiler.enterMethod(this);
+        }
+
+        this.suspendedFrames.push(this.activeFrame);
+        InterpreterMetrics.getInstance().reportFrameStackDepth(this.suspendedFrames.size());
+        this.activeFrame = this.getPendingFrame();
+        this.pendingFrame = null;
 
         try {
             for(ICommand command : this.commandSequences) {
                 executionMonitor.tryExecution();
-                command.execute();
-
-                LocalVarTracker.getInstance().populateLocalVars(command);
+                executionMonitor.executeCommand(command);
 
                 if (command instanceof ReturnCommand) {
                     break;
@@ -248,39 +301,17 @@ public class BaracoMethod implements IControlledCommand{
                     break;
             }
         } catch(InterruptedException e) {
-            System.out.println(TAG + ": " + "Monitor block interrupted! " +e.getMessage());
-        }
-
-        MethodTracker.getInstance().reportExitFunction();
-        this.popBackParameters();
-        this.popBackLocalVars();
-
-        LocalVarTracker.getInstance().endCurrentSession();
-
-        //LocalVarTracker.resetLocalVars(localVars);
-    }
-
-    private void popBackParameters() {
-        for (BaracoValue bV : this.parameterValues.values()) {
-            if(bV.getPrimitiveType() != PrimitiveType.ARRAY)
-                bV.popBack();
-        }
-    }
-
-    private void popBackLocalVars() {
-        for(String s : LocalVarTracker.getInstance().getCurrentSession()) {
-
-            BaracoValue value = VariableSearcher.searchVariableInFunction(this, s);
-
-            if (value != null) {
-
-                if (value.stackSize() > 1) { // prevent from reaching null
-                    if (value.getPrimitiveType() != PrimitiveType.ARRAY)
-                        value.popBack();
-                }
-                
+            Log.e(TAG, "Monitor block interrupted! " +e.getMessage());
+        } finally {
+            //also counts and records the call if the run is cancelled inside it
+            if(profiler != null) {
+                profiler.exitMethod(this);
             }
 
+            MethodTracker.getInstance().reportExitFunction();
+
+            //the frame of this invocation is discarded
+            this.activeFrame = this.suspendedFrames.pop();
         }
     }
 
@@ -1,9 +1,11 @@
 package baraco.representations;
 
-import java.util.Stack;
+import baraco.utils.logging.Log;
 
 public class BaracoValue {
 
+    private final static String TAG = "BaracoValue";
+
     //these are the accepted primitive types
     public enum PrimitiveType {
         NOT_YET_IDENTIFIED,
@@ -15,40 +17,86 @@ public class BaracoValue {
         ARRAY
     }
 
-    private Stack<Object> defaultValue; //this value will no longer change.
-    private Stack<Object> value;
+    private Object defaultValue; //this value will no longer change.
+    private ValueCell cell; //the value outside of any activation frame
     private PrimitiveType primitiveType = PrimitiveType.NOT_YET_IDENTIFIED;
     private boolean finalFlag = false;
 
+    private BaracoMethod ownerMethod; //the method whose frames hold this value. null for main and class variables.
+    private int slot = -1;
+
     public BaracoValue(Object value, PrimitiveType primitiveType) {
         if(value == null || checkValueType(value, primitiveType)) {
-            this.value = new Stack<Object>();
-
-            this.value.push(value);
+            this.defaultValue = value;
             this.primitiveType = primitiveType;
+            this.cell = this.createCell();
         }
         else {
-            System.out.println("Value is not appropriate for  " +primitiveType+ "!");
+            Log.w(TAG, "Value is not appropriate for  " +primitiveType+ "!");
         }
     }
 
-    public void setPrimitiveType(PrimitiveType primitiveType) {
-        this.primitiveType = primitiveType;
+    /*
+     * Creates a cell for the current primitive type that holds the default value.
+     */
+    private ValueCell createCell() {
+        ValueCell cell = ValueCell.create(this.primitiveType);
+        cell.setObject(this.defaultValue);
+
+        return cell;
     }
 
-    public void reset() {
-        this.value = this.defaultValue;
+    /*
+     * Binds this value to a slot of a method. From then on, each invocation of the method has its own copy of it.
+     */
+    void bindToSlot(BaracoMethod ownerMethod, int slot) {
+        this.ownerMethod = ownerMethod;
+        this.slot = slot;
+    }
+
+    int getSlot() {
+        return this.slot;
+    }
+
+    /*
+     * Returns a new cell for an activation frame, holding the value as declared.
+     */
+    ValueCell createFrameCell() {
+        return this.cell.copy();
     }
 
-    public Object popBack() {
-        if (this.value.size() > 2)
-            return this.value.pop();
+    /*
+     * Returns the cell that is currently in effect: the one in the active frame of the owner method, if any.
+     */
+    private ValueCell getCell() {
+        if(this.ownerMethod != null) {
+            ValueCell[] frame = this.ownerMethod.getActiveFrame();
+
+            if(frame != null) {
+                return frame[this.slot];
+            }
+        }
+
+        return this.cell;
+    }
 
-        return null;
+    public void setPrimitiveType(PrimitiveType primitiveType) {
+        if(this.primitiveType != primitiveType) {
+            this.primitiveType = primitiveType;
+            this.defaultValue = null;
+            this.cell = this.createCell();
+        }
     }
 
-    public int stackSize() {
-        return value.size();
+    public void reset() {
+        this.cell = this.createCell();
+    }
+
+    /*
+     * Returns true if no value has been assigned to this variable yet.
+     */
+    public boolean isUnset() {
+        return this.getCell().isUnset();
     }
 
     /*
@@ -63,46 +111,90 @@ public class BaracoValue {
     }
 
     public void setValue(String value) {
+        this.setValue(this.getCell(), value);
+    }
+
+    /*
+     * Assigns a value to the given cell of this variable. Used directly when mapping parameters into a new frame.
+     */
+    void setValue(ValueCell cell, String value) {
 
         if(this.primitiveType == PrimitiveType.NOT_YET_IDENTIFIED) {
-            System.out.println("Primitive type not yet identified!");
+            Log.w(TAG, "Primitive type not yet identified!");
         }
         else if(this.primitiveType == PrimitiveType.STRING) {
-            value.replace("\"", "");
-
-            this.value.push(value.replace("\"", ""));
+            cell.setObject(value.replace("\"", ""));
         }
         else if(this.primitiveType == PrimitiveType.ARRAY) {
-            System.out.println(this.primitiveType + " is an array. Cannot directly change value.");
+            Log.w(TAG, this.primitiveType + " is an array. Cannot directly change value.");
         }
         else {
             //attempts to type cast the value
-            this.value.push(this.attemptTypeCast(value));
+            this.attemptTypeCast(cell, value);
         }
     }
 
 
-    private Object attemptTypeCast(String value) {
+    private void attemptTypeCast(ValueCell cell, String value) {
         switch(this.primitiveType) {
-            case CHAR: return Character.valueOf(value.charAt(0));
-            case BOOL: return Boolean.valueOf(value);
+            case CHAR: ((CharCell) cell).set(value.charAt(0)); break;
+            case BOOL: ((BoolCell) cell).set(Boolean.parseBoolean(value)); break;
             case INT:
                 String s = value;
 
                 if(s.contains(".")) {
                     String[] split = s.split("[.]");
-                    return Integer.valueOf(split[0]);
+                    ((IntCell) cell).set(Integer.parseInt(split[0]));
                 } else {
-                    return Integer.valueOf(value);
+                    ((IntCell) cell).set(Integer.parseInt(value));
                 }
-            case DECIMAL: return Double.valueOf(value);
-            case STRING: return value;
-            default: return null;
+                break;
+            case DECIMAL: ((DecimalCell) cell).set(Double.parseDouble(value)); break;
+            default: cell.setObject(null); break;
         }
     }
 
+    /*
+     * Typed accessors. These must only be used when the primitive type is known to match.
+     * An unset value reads as the zero value of its type.
+     */
+    public int getIntValue() {
+        return ((IntCell) this.getCell()).get();
+    }
+
+    public void setIntValue(int value) {
+        ((IntCell) this.getCell()).set(value);
+    }
+
+    public double getDecimalValue() {
+        return ((DecimalCell) this.getCell()).get();
+    }
+
+    public void setDecimalValue(double value) {
+        ((DecimalCell) this.getCell()).set(value);
+    }
+
+    public boolean getBoolValue() {
+        return ((BoolCell) this.getCell()).get();
+    }
+
+    public void setBoolValue(boolean value) {
+        ((BoolCell) this.getCell()).set(value);
+    }
+
+    public char getCharValue() {
+        return ((CharCell) this.getCell()).get();
+    }
+
+    public void setCharValue(char value) {
+        ((CharCell) this.getCell()).set(value);
+    }
+
+    /*
+     * Returns a boxed copy of the current value, or null if it is not yet assigned.
+     */
     public Object getValue() {
-        return this.value.peek();
+        return this.getCell().getObject();
     }
 
     public PrimitiveType getPrimitiveType() {
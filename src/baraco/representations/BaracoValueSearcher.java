@@ -5,6 +5,7 @@ import baraco.execution.MethodTracker;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.ClassScope;
 import baraco.semantics.symboltable.scopes.LocalScopeCreator;
+import baraco.utils.metrics.InterpreterMetrics;
 
 public class BaracoValueSearcher {
     private final static String TAG = "BaracoValueSearcher";
@@ -12,6 +13,7 @@ public class BaracoValueSearcher {
     public static BaracoValue searchBaracoValue(String identifier) {
 
         BaracoValue baracoValue = null;
+        InterpreterMetrics.getInstance().reportVariableLookup();
 
         if(MethodTracker.getInstance().isInsideFunction()) {
             BaracoMethod mobiFunction = MethodTracker.getInstance().getLatestFunction();
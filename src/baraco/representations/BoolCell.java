@@ -0,0 +1,43 @@
+package baraco.representations;
+
+/**
+ * Stores the value of a bool variable as a boolean.
+ */
+final class BoolCell extends ValueCell {
+
+    private boolean value = false;
+
+    boolean get() {
+        return this.value;
+    }
+
+    void set(boolean value) {
+        this.value = value;
+        this.unset = false;
+    }
+
+    @Override
+    void setObject(Object value) {
+        if(value == null) {
+            this.value = false;
+            this.unset = true;
+        }
+        else {
+            this.set((Boolean) value);
+        }
+    }
+
+    @Override
+    Object getObject() {
+        return this.unset ? null : Boolean.valueOf(this.value);
+    }
+
+    @Override
+    ValueCell copy() {
+        BoolCell cell = new BoolCell();
+        cell.value = this.value;
+        cell.unset = this.unset;
+
+        return cell;
+    }
+}
@@ -0,0 +1,43 @@
+package baraco.representations;
+
+/**
+ * Stores the value of a char variable as a char.
+ */
+final class CharCell extends ValueCell {
+
+    private char value = '\0';
+
+    char get() {
+        return this.value;
+    }
+
+    void set(char value) {
+        this.value = value;
+        this.unset = false;
+    }
+
+    @Override
+    void setObject(Object value) {
+        if(value == null) {
+            this.value = '\0';
+            this.unset = true;
+        }
+        else {
+            this.set((Character) value);
+        }
+    }
+
+    @Override
+    Object getObject() {
+        return this.unset ? null : Character.valueOf(this.value);
+    }
+
+    @Override
+    ValueCell copy() {
+        CharCell cell = new CharCell();
+        cell.value = this.value;
+        cell.unset = this.unset;
+
+        return cell;
+    }
+}
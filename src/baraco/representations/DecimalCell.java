@@ -0,0 +1,43 @@
+package baraco.representations;
+
+/**
+ * Stores the value of a decimal variable as a double.
+ */
+final class DecimalCell extends ValueCell {
+
+    private double value = 0.0;
+
+    double get() {
+        return this.value;
+    }
+
+    void set(double value) {
+        this.value = value;
+        this.unset = false;
+    }
+
+    @Override
+    void setObject(Object value) {
+        if(value == null) {
+            this.value = 0.0;
+            this.unset = true;
+        }
+        else {
+            this.set((Double) value);
+        }
+    }
+
+    @Override
+    Object getObject() {
+        return this.unset ? null : Double.valueOf(this.value);
+    }
+
+    @Override
+    ValueCell copy() {
+        DecimalCell cell = new DecimalCell();
+        cell.value = this.value;
+        cell.unset = this.unset;
+
+        return cell;
+    }
+}
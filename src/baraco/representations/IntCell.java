@@ -0,0 +1,43 @@
+package baraco.representations;
+
+/**
+ * Stores the value of an int variable as an int.
+ */
+final class IntCell extends ValueCell {
+
+    private int value = 0;
+
+    int get() {
+        return this.value;
+    }
+
+    void set(int value) {
+        this.value = value;
+        this.unset = false;
+    }
+
+    @Override
+    void setObject(Object value) {
+        if(value == null) {
+            this.value = 0;
+            this.unset = true;
+        }
+        else {
+            this.set((Integer) value);
+        }
+    }
+
+    @Override
+    Object getObject() {
+        return this.unset ? null : Integer.valueOf(this.value);
+    }
+
+    @Override
+    ValueCell copy() {
+        IntCell cell = new IntCell();
+        cell.value = this.value;
+        cell.unset = this.unset;
+
+        return cell;
+    }
+}
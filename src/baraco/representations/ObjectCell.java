@@ -0,0 +1,28 @@
+package baraco.representations;
+
+/**
+ * Stores the value of a string or array variable, which is already an object.
+ */
+final class ObjectCell extends ValueCell {
+
+    private Object value;
+
+    @Override
+    void setObject(Object value) {
+        this.value = value;
+        this.unset = (value == null);
+    }
+
+    @Override
+    Object getObject() {
+        return this.value;
+    }
+
+    @Override
+    ValueCell copy() {
+        ObjectCell cell = new ObjectCell();
+        cell.setObject(this.value);
+
+        return cell;
+    }
+}
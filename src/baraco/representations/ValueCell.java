@@ -0,0 +1,45 @@
+package baraco.representations;
+
+import baraco.representations.BaracoValue.PrimitiveType;
+
+/**
+ * Storage of a single baraco value. Each primitive type has its own cell so that reads and writes of numbers
+ * do not go through boxing or string conversion. Values that belong to a method get a fresh cell in every
+ * activation frame of that method.
+ */
+abstract class ValueCell {
+
+    protected boolean unset = true; //the variable was declared without a value
+
+    /*
+     * Creates the cell that stores values of the given primitive type.
+     */
+    static ValueCell create(PrimitiveType primitiveType) {
+        switch(primitiveType) {
+            case INT: return new IntCell();
+            case DECIMAL: return new DecimalCell();
+            case BOOL: return new BoolCell();
+            case CHAR: return new CharCell();
+            default: return new ObjectCell();
+        }
+    }
+
+    boolean isUnset() {
+        return this.unset;
+    }
+
+    /*
+     * Stores a boxed value. The value must already match the type of this cell. Null unsets the cell.
+     */
+    abstract void setObject(Object value);
+
+    /*
+     * Returns a boxed copy of the value, or null if it is unset.
+     */
+    abstract Object getObject();
+
+    /*
+     * Returns a new cell holding the same value. Used to initialize a frame from a declaration.
+     */
+    abstract ValueCell copy();
+}
@@ -7,6 +7,7 @@ import baraco.execution.commands.controlled.IAttemptCommand;
 import baraco.execution.commands.controlled.IConditionalCommand;
 import baraco.execution.commands.controlled.IControlledCommand;
 import baraco.execution.commands.evaluation.ArrayInitializeCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.representations.BaracoArray;
 import baraco.representations.BaracoValue;
 import baraco.semantics.statements.StatementControlOverseer;
@@ -126,6 +127,7 @@ public class ArrayAnalyzer implements ParseTreeListener {
 
     private void createInitializeCommand(BaracoParser.ArrayCreatorRestContext arrayCreatorCtx) {
         ArrayInitializeCommand arrayInitializeCommand = new ArrayInitializeCommand(this.declaredArray, arrayCreatorCtx);
+        Profiler.getInstance().registerCommand(arrayInitializeCommand, arrayCreatorCtx.getStart().getLine());
 
         //ExecutionManager.getInstance().addCommand(arrayInitializeCommand);
 
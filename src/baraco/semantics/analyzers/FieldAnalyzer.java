@@ -5,6 +5,7 @@ import baraco.builder.errorcheckers.MultipleVariableDeclarationChecker;
 import baraco.builder.errorcheckers.TypeChecker;
 import baraco.execution.ExecutionManager;
 import baraco.execution.commands.evaluation.MappingCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.representations.BaracoValue;
 import baraco.representations.RecognizedKeywords;
 import baraco.semantics.symboltable.scopes.ClassScope;
@@ -66,6 +67,7 @@ public class FieldAnalyzer implements ParseTreeListener {
                 }
 
                 MappingCommand mappingCommand = new MappingCommand(varCtx.variableDeclaratorId().getText(), varCtx.variableInitializer().expression());
+                Profiler.getInstance().registerCommand(mappingCommand, varCtx.getStart().getLine());
                 ExecutionManager.getInstance().addCommand(mappingCommand);
 
                 BaracoValue declaredBaracoValue = this.declaredClassScope.searchVariableIncludingLocal(varCtx.variableDeclaratorId().getText());
@@ -9,6 +9,7 @@ import baraco.execution.commands.controlled.IAttemptCommand;
 import baraco.execution.commands.controlled.IConditionalCommand;
 import baraco.execution.commands.controlled.IControlledCommand;
 import baraco.execution.commands.evaluation.MappingCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.representations.BaracoValue;
 import baraco.representations.RecognizedKeywords;
 import baraco.semantics.statements.StatementControlOverseer;
@@ -165,6 +166,7 @@ public class LocalVariableAnalyzer implements ParseTreeListener {
         }
         else {
             MappingCommand mappingCommand = new MappingCommand(varCtx.variableDeclaratorId().getText(), varCtx.variableInitializer().expression());
+            Profiler.getInstance().registerCommand(mappingCommand, varCtx.getStart().getLine());
 
             StatementControlOverseer statementControl = StatementControlOverseer.getInstance();
             //add to conditional controlled command
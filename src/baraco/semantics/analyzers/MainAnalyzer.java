@@ -12,9 +12,12 @@ import org.antlr.v4.runtime.tree.ParseTreeListener;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import baraco.antlr.parser.BaracoParser.*;
+import baraco.utils.logging.Log;
 
 public class MainAnalyzer implements ParseTreeListener{
 
+    private final static String TAG = "MainAnalyzer";
+
     public MainAnalyzer() {
 
     }
@@ -35,7 +38,7 @@ public class MainAnalyzer implements ParseTreeListener{
 
         }
         else {
-            System.out.println("Already found main in " + ExecutionManager.getInstance().getEntryClassName());
+            Log.w(TAG, "Already found main in " + ExecutionManager.getInstance().getEntryClassName());
         }
     }
 
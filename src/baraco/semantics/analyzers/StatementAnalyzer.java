@@ -8,17 +8,21 @@ import baraco.execution.commands.controlled.*;
 import baraco.execution.commands.simple.PrintCommand;
 import baraco.execution.commands.simple.ReturnCommand;
 import baraco.execution.commands.simple.ScanCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.representations.BaracoMethod;
 import baraco.semantics.statements.StatementControlOverseer;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.ClassScope;
 import baraco.semantics.symboltable.scopes.LocalScopeCreator;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 import java.util.List;
 
 public class StatementAnalyzer {
 
+    private final static String TAG = "StatementAnalyzer";
+
     public StatementAnalyzer() {
 
     }
@@ -35,7 +39,9 @@ public class StatementAnalyzer {
         // Add Scan implementation here
         //an expression
         else if(ctx.statementExpression() != null) {
-            System.out.println("STATEMENT ANALYZER: " + ctx.statementExpression().expression().start.getText());
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "STATEMENT ANALYZER: " + ctx.statementExpression().expression().start.getText());
+            }
             StatementExpressionAnalyzer expressionAnalyzer = new StatementExpressionAnalyzer();
             expressionAnalyzer.analyze(ctx.statementExpression());
         }
@@ -46,6 +52,7 @@ public class StatementAnalyzer {
             BlockContext blockContext = ctx.block();
 
             TryCommand tryCommand = new TryCommand();
+            Profiler.getInstance().registerCommand(tryCommand, ctx.getStart().getLine());
             StatementControlOverseer.getInstance().openAttemptCommand(tryCommand);
 
             BlockAnalyzer tryBlockAnalyzer = new BlockAnalyzer();
@@ -81,6 +88,7 @@ public class StatementAnalyzer {
             //Console.log(LogType.DEBUG, "IF statement: " +statementCtx.getText());
 
             IfCommand ifCommand = new IfCommand(ctx.parExpression());
+            Profiler.getInstance().registerCommand(ifCommand, ctx.getStart().getLine());
             StatementControlOverseer.getInstance().openConditionalCommand(ifCommand);
 
             StatementAnalyzer statementAnalyzer = new StatementAnalyzer();
@@ -99,7 +107,9 @@ public class StatementAnalyzer {
             StatementControlOverseer.getInstance().compileControlledCommand();
         }
         else if(isFORStatement(ctx)) {
-            System.out.println("FOR expression: " +ctx.forControl().getText());
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "FOR expression: " +ctx.forControl().getText());
+            }
 
             LocalScopeCreator.getInstance().openLocalScope();
 
@@ -107,6 +117,7 @@ public class StatementAnalyzer {
             forControlAnalyzer.analyze(ctx.forControl());
 
             ForCommand forCommand = new ForCommand(forControlAnalyzer.getLocalVarDecContext(), forControlAnalyzer.getExprContext(), forControlAnalyzer.getUpdateCommand());
+            Profiler.getInstance().registerCommand(forCommand, ctx.getStart().getLine());
             StatementControlOverseer.getInstance().openControlledCommand(forCommand);
 
             StatementContext statementCtx = ctx.statement(0);
@@ -116,7 +127,7 @@ public class StatementAnalyzer {
             StatementControlOverseer.getInstance().compileControlledCommand();
 
             LocalScopeCreator.getInstance().closeLocalScope();
-            System.out.println("End of FOR loop");
+            Log.d(TAG, "End of FOR loop");
         }
         else if(isWHILEStatement(ctx)) {
             //Console.log(LogType.DEBUG, "While par expression: " +ctx.parExpression().getText());
@@ -124,6 +135,7 @@ public class StatementAnalyzer {
             StatementContext statementCtx = ctx.statement(0);
 
             WhileCommand whileCommand = new WhileCommand(ctx.parExpression());
+            Profiler.getInstance().registerCommand(whileCommand, ctx.getStart().getLine());
             StatementControlOverseer.getInstance().openControlledCommand(whileCommand);
 
             StatementAnalyzer statementAnalyzer = new StatementAnalyzer();
@@ -138,6 +150,7 @@ public class StatementAnalyzer {
             StatementContext statementCtx = ctx.statement(0);
 
             DoWhileCommand doWhileCommand = new DoWhileCommand(ctx.parExpression());
+            Profiler.getInstance().registerCommand(doWhileCommand, ctx.getStart().getLine());
             StatementControlOverseer.getInstance().openControlledCommand(doWhileCommand);
 
             StatementAnalyzer statementAnalyzer = new StatementAnalyzer();
@@ -147,15 +160,20 @@ public class StatementAnalyzer {
             //Console.log(LogType.DEBUG, "End of DO-WHILE expression: " +ctx.parExpression().getText());
         }
         else if(isRETURNStatement(ctx) && ExecutionManager.getInstance().isInFunctionExecution()) {
-            System.out.println("Detected return expression: " +ctx.expression(0).getText());
-            this.handleReturnStatement(ctx.expression(0));
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Detected return expression: " +ctx.expression(0).getText());
+            }
+            this.handleReturnStatement(ctx.expression(0), ctx.getStart().getLine());
         }
     }
 
     private void handlePrintStatement(StatementContext ctx) {
-        System.out.println("HANDLE PRINT: " + ctx.expression().size());
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "HANDLE PRINT: " + ctx.expression().size());
+        }
 
         PrintCommand printCommand = new PrintCommand(ctx);
+        Profiler.getInstance().registerCommand(printCommand, ctx.getStart().getLine());
 
         StatementControlOverseer statementControl = StatementControlOverseer.getInstance();
         //add to conditional controlled command
@@ -198,6 +216,8 @@ public class StatementAnalyzer {
         else
             scanCommand = new ScanCommand(ctx.expression(0).getText(), ctx.Identifier().getText());
 
+        Profiler.getInstance().registerCommand(scanCommand, ctx.getStart().getLine());
+
         StatementControlOverseer statementControl = StatementControlOverseer.getInstance();
 
         if(statementControl.isInConditionalCommand()) {
@@ -230,8 +250,9 @@ public class StatementAnalyzer {
 
     }
 
-    private void handleReturnStatement(ExpressionContext exprCtx) {
+    private void handleReturnStatement(ExpressionContext exprCtx, int lineNumber) {
         ReturnCommand returnCommand = new ReturnCommand(exprCtx, ExecutionManager.getInstance().getCurrentFunction());
+        Profiler.getInstance().registerCommand(returnCommand, lineNumber);
 		/*
 		 * TODO: Return commands supposedly stops a controlled or conditional command and returns back the control to the caller.
 		 * Find a way to halt such commands if they are inside a controlled command.
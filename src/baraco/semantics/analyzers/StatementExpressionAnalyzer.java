@@ -14,8 +14,9 @@ import baraco.execution.commands.evaluation.AssignmentCommand;
 import baraco.execution.commands.evaluation.ShorthandCommand;
 import baraco.execution.commands.simple.IncDecCommand;
 import baraco.execution.commands.simple.MethodCallCommand;
+import baraco.execution.profiling.Profiler;
 import baraco.semantics.statements.StatementControlOverseer;
-import baraco.semantics.utils.Expression;
+import baraco.utils.logging.Log;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTreeListener;
@@ -26,6 +27,8 @@ import java.util.List;
 
 public class StatementExpressionAnalyzer implements ParseTreeListener {
 
+    private final static String TAG = "StatementExpressionAnalyzer";
+
     private int called = 0;
     private ExpressionContext readRightHandExprCtx; //used to avoid mistakenly reading right hand expressions as direct function calls as well.
 
@@ -65,76 +68,92 @@ public class StatementExpressionAnalyzer implements ParseTreeListener {
             ExpressionContext exprCtx = (ExpressionContext) ctx;
 
             if(isAssignmentExpression(exprCtx)) {
-                System.out.println("Assignment expr detected: " +exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Assignment expr detected: " +exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
                 AssignmentCommand assignmentCommand = new AssignmentCommand(exprListCtx.get(0), exprListCtx.get(1));
 
                 this.readRightHandExprCtx = exprListCtx.get(1);
-                this.handleStatementExecution(assignmentCommand);
+                this.handleStatementExecution(assignmentCommand, exprCtx);
 
             }
             else if(isAddAssignExpression(exprCtx)) {
-                System.out.println("Add assign expr detected: " + exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Add assign expr detected: " + exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
                 ShorthandCommand shorthandCommand = new ShorthandCommand(exprListCtx.get(0), exprListCtx.get(1), BaracoLexer.ADD_ASSIGN);
 
                 this.readRightHandExprCtx = exprListCtx.get(1);
-                this.handleStatementExecution(shorthandCommand);
+                this.handleStatementExecution(shorthandCommand, exprCtx);
             }
             else if(isSubAssignExpression(exprCtx)) {
-                System.out.println("Sub assign expr detected: " + exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Sub assign expr detected: " + exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
                 ShorthandCommand shorthandCommand = new ShorthandCommand(exprListCtx.get(0), exprListCtx.get(1), BaracoLexer.SUB_ASSIGN);
 
                 this.readRightHandExprCtx = exprListCtx.get(1);
-                this.handleStatementExecution(shorthandCommand);
+                this.handleStatementExecution(shorthandCommand, exprCtx);
             }
             else if(isMulAssignExpression(exprCtx)) {
-                System.out.println("Mul assign expr detected: " + exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Mul assign expr detected: " + exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
                 ShorthandCommand shorthandCommand = new ShorthandCommand(exprListCtx.get(0), exprListCtx.get(1), BaracoLexer.MUL_ASSIGN);
 
                 this.readRightHandExprCtx = exprListCtx.get(1);
-                this.handleStatementExecution(shorthandCommand);
+                this.handleStatementExecution(shorthandCommand, exprCtx);
             }
             else if(isDivAssignExpression(exprCtx)) {
-                System.out.println("Div assign expr detected: " + exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Div assign expr detected: " + exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
                 ShorthandCommand shorthandCommand = new ShorthandCommand(exprListCtx.get(0), exprListCtx.get(1), BaracoLexer.DIV_ASSIGN);
 
                 this.readRightHandExprCtx = exprListCtx.get(1);
-                this.handleStatementExecution(shorthandCommand);
+                this.handleStatementExecution(shorthandCommand, exprCtx);
             }
             else if(isModAssignExpression(exprCtx)) {
-                System.out.println("Mod assign expr detected: " + exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Mod assign expr detected: " + exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
                 ShorthandCommand shorthandCommand = new ShorthandCommand(exprListCtx.get(0), exprListCtx.get(1), BaracoLexer.MOD_ASSIGN);
 
                 this.readRightHandExprCtx = exprListCtx.get(1);
-                this.handleStatementExecution(shorthandCommand);
+                this.handleStatementExecution(shorthandCommand, exprCtx);
             }
             else if(isIncrementExpression(exprCtx)) {
-                System.out.println("Increment expr detected: " +exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Increment expr detected: " +exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
 
                 IncDecCommand incDecCommand = new IncDecCommand(exprListCtx.get(0), BaracoLexer.INC);
-                this.handleStatementExecution(incDecCommand);
+                this.handleStatementExecution(incDecCommand, exprCtx);
             }
 
             else if(isDecrementExpression(exprCtx)) {
-                System.out.println("Decrement expr detected: " +exprCtx.getText());
+                if(Log.isDebugEnabled()) {
+                    Log.d(TAG, "Decrement expr detected: " +exprCtx.getText());
+                }
 
                 List<ExpressionContext> exprListCtx = exprCtx.expression();
 
                 IncDecCommand incDecCommand = new IncDecCommand(exprListCtx.get(0), BaracoLexer.DEC);
-                this.handleStatementExecution(incDecCommand);
+                this.handleStatementExecution(incDecCommand, exprCtx);
 
             }
             else if(isFunctionCall(exprCtx))
@@ -195,7 +214,8 @@ public class StatementExpressionAnalyzer implements ParseTreeListener {
 
     }
 
-    private void handleStatementExecution(ICommand command) {
+    private void handleStatementExecution(ICommand command, ExpressionContext exprCtx) {
+        Profiler.getInstance().registerCommand(command, exprCtx.getStart().getLine());
 
         StatementControlOverseer statementControl = StatementControlOverseer.getInstance();
 
@@ -236,26 +256,32 @@ public class StatementExpressionAnalyzer implements ParseTreeListener {
         //String functionName = functionExprCtx.Identifier().getText();
 
         MethodCallCommand functionCallCommand = new MethodCallCommand(functionName, funcExprCtx);
-        this.handleStatementExecution(functionCallCommand);
+        this.handleStatementExecution(functionCallCommand, funcExprCtx);
 
-        System.out.println("Function call with params detected: " +functionName);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Function call with params detected: " +functionName);
+        }
     }
 
     private void handleFunctionCallWithNoParams(ExpressionContext funcExprCtx) {
-        System.out.println("HANDLEEEE: " + funcExprCtx.expression(0).getText());
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "HANDLEEEE: " + funcExprCtx.expression(0).getText());
+        }
         String functionName = funcExprCtx.start.getText();
 
         MethodCallCommand methodCallCommand = new MethodCallCommand(functionName, funcExprCtx);
-        this.handleStatementExecution(methodCallCommand);
+        this.handleStatementExecution(methodCallCommand, funcExprCtx);
 
-        System.out.println("Function call with no params detected: " +functionName);
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Function call with no params detected: " +functionName);
+        }
     }
 
     private void handleFunctionCall(ExpressionContext funcExprCtx) {
         String functionName = funcExprCtx.expression(0).getText();
 
         MethodCallCommand methodCallCommand = new MethodCallCommand(functionName, funcExprCtx);
-        this.handleStatementExecution(methodCallCommand);
+        this.handleStatementExecution(methodCallCommand, funcExprCtx);
 
     }
 
@@ -0,0 +1,30 @@
+package baraco.semantics.expressions;
+
+/**
+ * Selects how numeric expressions are evaluated. In the native mode, int expressions use Java int arithmetic, overflow
+ * included, and decimal expressions use double. The arbitrary precision mode evaluates every numeric expression as
+ * a BigDecimal, the way the interpreter originally did.
+ *
+ * Each execution context has its own mode, which is read once by every expression compiled in it. The default can be
+ * set with -Dbaraco.arithmetic=native|arbitrary.
+ */
+public enum ArithmeticMode {
+    NATIVE,
+    ARBITRARY;
+
+    private final static String MODE_PROPERTY = "baraco.arithmetic";
+
+    public static ArithmeticMode fromSystemProperties() {
+        String property = System.getProperty(MODE_PROPERTY);
+
+        if(property == null) {
+            return NATIVE;
+        }
+
+        try {
+            return ArithmeticMode.valueOf(property.trim().toUpperCase());
+        } catch(IllegalArgumentException e) {
+            return NATIVE;
+        }
+    }
+}
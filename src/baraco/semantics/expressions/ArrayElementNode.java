@@ -0,0 +1,122 @@
+package baraco.semantics.expressions;
+
+import baraco.execution.ExecutionManager;
+import baraco.representations.BaracoArray;
+import baraco.representations.BaracoValue;
+import baraco.semantics.searching.VariableReference;
+
+import java.math.BigDecimal;
+
+/**
+ * An array access in the form of identifier[index].
+ */
+public class ArrayElementNode extends ExpressionNode {
+
+    private final String identifier;
+    private final ExpressionNode indexNode;
+    private final BaracoValue.PrimitiveType elementType;
+    private final int lineNumber;
+    private final VariableReference arrayReference;
+
+    public ArrayElementNode(String identifier, ExpressionNode indexNode, BaracoValue.PrimitiveType elementType, int lineNumber) {
+        this(identifier, new VariableReference(identifier), indexNode, elementType, lineNumber);
+    }
+
+    private ArrayElementNode(String identifier, VariableReference arrayReference, ExpressionNode indexNode,
+                             BaracoValue.PrimitiveType elementType, int lineNumber) {
+        this.identifier = identifier;
+        this.arrayReference = arrayReference;
+        this.indexNode = indexNode;
+        this.elementType = elementType;
+        this.lineNumber = lineNumber;
+    }
+
+    /*
+     * Returns the element at the evaluated index. Out of bounds accesses are reported by the array itself.
+     */
+    private BaracoValue evaluateElement() {
+        BaracoValue baracoValue = this.arrayReference.getBaracoValue();
+
+        if(baracoValue == null || baracoValue.getPrimitiveType() != BaracoValue.PrimitiveType.ARRAY) {
+            throw new ExpressionException(this.identifier + " is not an array");
+        }
+
+        BaracoArray baracoArray = (BaracoArray) baracoValue.getValue();
+        int index = this.arbitraryPrecision ?
+                this.indexNode.evaluateNumeric().intValue() : this.indexNode.evaluateInt();
+
+        ExecutionManager.getInstance().setCurrentCheckedLineNumber(this.lineNumber);
+        BaracoValue elementValue = baracoArray.getValueAt(index);
+
+        if(elementValue == null) {
+            throw new ExpressionException(this.identifier + "[" + index + "] has no value");
+        }
+
+        return elementValue;
+    }
+
+    /*
+     * The element is read from the array at runtime, so a literal index is not enough to fold it.
+     */
+    @Override
+    public boolean isFoldable() {
+        return false;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.indexNode};
+    }
+
+    @Override
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return new ArrayElementNode(this.identifier, this.arrayReference, children[0], this.elementType, this.lineNumber);
+    }
+
+    @Override
+    public String getStructureKey() {
+        return this.identifier + "[" + this.indexNode.getStructureKey() + "]";
+    }
+
+    @Override
+    public ResultType getResultType() {
+        if(this.elementType == BaracoValue.PrimitiveType.STRING || this.elementType == BaracoValue.PrimitiveType.CHAR) {
+            return ResultType.STRING;
+        }
+
+        return ResultType.NUMERIC;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return this.elementType == BaracoValue.PrimitiveType.INT || this.elementType == BaracoValue.PrimitiveType.BOOL;
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        BaracoValue elementValue = this.evaluateElement();
+
+        return toNumeric(elementValue);
+    }
+
+    @Override
+    public int evaluateInt() {
+        return toInt(this.evaluateElement());
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        return toDecimal(this.evaluateElement());
+    }
+
+    @Override
+    public String evaluateString() {
+        if(this.isNumeric()) {
+            return super.evaluateString();
+        }
+
+        Object value = this.evaluateElement().getValue();
+
+        return value == null ? "null" : value.toString();
+    }
+}
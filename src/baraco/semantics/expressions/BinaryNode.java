@@ -0,0 +1,264 @@
+package baraco.semantics.expressions;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An arithmetic, relational or logical operator applied to two numeric operands.
+ */
+public class BinaryNode extends ExpressionNode {
+
+    public enum Operator {
+        ADD,
+        SUBTRACT,
+        MULTIPLY,
+        DIVIDE,
+        MODULO,
+        POWER,
+        LESS,
+        LESS_EQUAL,
+        GREATER,
+        GREATER_EQUAL,
+        AND,
+        OR
+    }
+
+    private final Operator operator;
+    private final ExpressionNode leftNode;
+    private final ExpressionNode rightNode;
+
+    //resolved on first use, since calls to methods declared later have no return type at build time
+    private Boolean integralOperands;
+
+    public BinaryNode(Operator operator, ExpressionNode leftNode, ExpressionNode rightNode) {
+        this.operator = operator;
+        this.leftNode = leftNode;
+        this.rightNode = rightNode;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.leftNode, this.rightNode};
+    }
+
+    @Override
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return new BinaryNode(this.operator, children[0], children[1]);
+    }
+
+    @Override
+    public String getStructureKey() {
+        return this.operator + "(" + this.leftNode.getStructureKey() + "," + this.rightNode.getStructureKey() + ")";
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return ResultType.NUMERIC;
+    }
+
+    private boolean isArithmetic() {
+        switch(this.operator) {
+            case ADD:
+            case SUBTRACT:
+            case MULTIPLY:
+            case DIVIDE:
+            case MODULO:
+            case POWER:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean hasIntegralOperands() {
+        if(this.integralOperands == null) {
+            this.integralOperands = this.leftNode.isIntegral() && this.rightNode.isIntegral();
+        }
+
+        return this.integralOperands;
+    }
+
+    /*
+     * Arithmetic on two ints stays an int, as in Java. Comparisons and logical operators produce 1 or 0.
+     */
+    @Override
+    public boolean isIntegral() {
+        return !this.isArithmetic() || this.hasIntegralOperands();
+    }
+
+    @Override
+    public int evaluateInt() {
+        if(!this.isArithmetic()) {
+            return this.evaluateBoolean() ? 1 : 0;
+        }
+        else if(!this.hasIntegralOperands()) {
+            return (int) this.evaluateDecimal();
+        }
+
+        int v1 = this.leftNode.evaluateInt();
+        int v2 = this.rightNode.evaluateInt();
+
+        switch(this.operator) {
+            case ADD: return v1 + v2;
+            case SUBTRACT: return v1 - v2;
+            case MULTIPLY: return v1 * v2;
+            case DIVIDE: return v1 / v2;
+            case MODULO: return v1 % v2;
+            case POWER: return power(v1, v2);
+            default: return 0;
+        }
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        if(this.isIntegral()) {
+            return this.evaluateInt();
+        }
+
+        double v1 = this.leftNode.evaluateDecimal();
+        double v2 = this.rightNode.evaluateDecimal();
+
+        switch(this.operator) {
+            case ADD: return v1 + v2;
+            case SUBTRACT: return v1 - v2;
+            case MULTIPLY: return v1 * v2;
+            case DIVIDE:
+                //still reported as an arithmetic exception, so that catch clauses behave the same in every mode
+                if(v2 == 0) {
+                    throw new ArithmeticException("Division by zero");
+                }
+
+                return v1 / v2;
+            case MODULO:
+                if(v2 == 0) {
+                    throw new ArithmeticException("Division by zero");
+                }
+
+                return v1 % v2;
+            case POWER: return Math.pow(v1, v2);
+            default: return 0;
+        }
+    }
+
+    /*
+     * Evaluates a comparison or a logical operator. The right operand of and/or is only evaluated if it decides the result.
+     */
+    private boolean evaluateBoolean() {
+        if(this.operator == Operator.AND) {
+            return this.leftNode.evaluateTruth() && this.rightNode.evaluateTruth();
+        }
+        else if(this.operator == Operator.OR) {
+            return this.leftNode.evaluateTruth() || this.rightNode.evaluateTruth();
+        }
+        else if(this.arbitraryPrecision) {
+            int comparison = this.leftNode.evaluateNumeric().compareTo(this.rightNode.evaluateNumeric());
+
+            switch(this.operator) {
+                case LESS: return comparison < 0;
+                case LESS_EQUAL: return comparison <= 0;
+                case GREATER: return comparison > 0;
+                case GREATER_EQUAL: return comparison >= 0;
+                default: return false;
+            }
+        }
+
+        //every int converts to a double exactly
+        double v1 = this.leftNode.evaluateDecimal();
+        double v2 = this.rightNode.evaluateDecimal();
+
+        switch(this.operator) {
+            case LESS: return v1 < v2;
+            case LESS_EQUAL: return v1 <= v2;
+            case GREATER: return v1 > v2;
+            case GREATER_EQUAL: return v1 >= v2;
+            default: return false;
+        }
+    }
+
+    @Override
+    public boolean evaluateTruth() {
+        return this.isArithmetic() ? super.evaluateTruth() : this.evaluateBoolean();
+    }
+
+    @Override
+    public boolean evaluatePredicate() {
+        return this.isArithmetic() ? super.evaluatePredicate() : this.evaluateBoolean();
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        if(!this.isArithmetic()) {
+            return toBoolean(this.evaluateBoolean());
+        }
+
+        BigDecimal v1 = this.leftNode.evaluateNumeric();
+        BigDecimal v2 = this.rightNode.evaluateNumeric();
+
+        switch(this.operator) {
+            case ADD: return v1.add(v2, MATH_CONTEXT);
+            case SUBTRACT: return v1.subtract(v2, MATH_CONTEXT);
+            case MULTIPLY: return v1.multiply(v2, MATH_CONTEXT);
+            case DIVIDE: return v1.divide(v2, MATH_CONTEXT);
+            case MODULO: return v1.remainder(v2, MATH_CONTEXT);
+            case POWER: return power(v1, v2);
+            default: return BigDecimal.ZERO;
+        }
+    }
+
+    private static BigDecimal toBoolean(boolean flag) {
+        return flag ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+
+    /*
+     * Raises an int to an int power by repeated squaring, wrapping on overflow like any other int operation.
+     * Negative exponents behave like 1 / (base ^ -exponent) with int division.
+     */
+    private static int power(int base, int exponent) {
+        if(exponent < 0) {
+            if(base == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+            else if(base == 1) {
+                return 1;
+            }
+            else if(base == -1) {
+                return (exponent % 2 == 0) ? 1 : -1;
+            }
+
+            return 0;
+        }
+
+        int result = 1;
+
+        while(exponent > 0) {
+            if((exponent & 1) == 1) {
+                result *= base;
+            }
+
+            base *= base;
+            exponent >>= 1;
+        }
+
+        return result;
+    }
+
+    /*
+     * Supports fractional powers the same way as the Eval-Ex ^ operator.
+     */
+    private static BigDecimal power(BigDecimal v1, BigDecimal v2) {
+        int signOf2 = v2.signum();
+        double dn1 = v1.doubleValue();
+        v2 = v2.multiply(new BigDecimal(signOf2));
+        BigDecimal remainderOf2 = v2.remainder(BigDecimal.ONE);
+        BigDecimal n2IntPart = v2.subtract(remainderOf2);
+        BigDecimal intPow = v1.pow(n2IntPart.intValueExact(), MATH_CONTEXT);
+        BigDecimal doublePow = new BigDecimal(Math.pow(dn1, remainderOf2.doubleValue()));
+
+        BigDecimal result = intPow.multiply(doublePow, MATH_CONTEXT);
+        if(signOf2 == -1) {
+            result = BigDecimal.ONE.divide(result, MATH_CONTEXT.getPrecision(), RoundingMode.HALF_UP);
+        }
+
+        return result;
+    }
+}
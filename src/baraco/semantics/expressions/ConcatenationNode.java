@@ -0,0 +1,58 @@
+package baraco.semantics.expressions;
+
+
+import java.math.BigDecimal;
+
+/**
+ * Joins the string forms of two operands. Any binary operator that has a string operand compiles to this node.
+ */
+public class ConcatenationNode extends ExpressionNode {
+
+    private final ExpressionNode leftNode;
+    private final ExpressionNode rightNode;
+
+    public ConcatenationNode(ExpressionNode leftNode, ExpressionNode rightNode) {
+        this.leftNode = leftNode;
+        this.rightNode = rightNode;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.leftNode, this.rightNode};
+    }
+
+    @Override
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return new ConcatenationNode(children[0], children[1]);
+    }
+
+    @Override
+    public String getStructureKey() {
+        return "CONCAT(" + this.leftNode.getStructureKey() + "," + this.rightNode.getStructureKey() + ")";
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return ResultType.STRING;
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        throw new ExpressionException("String concatenation is not a numeric value");
+    }
+
+    @Override
+    public int evaluateInt() {
+        throw new ExpressionException("String concatenation is not a numeric value");
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        throw new ExpressionException("String concatenation is not a numeric value");
+    }
+
+    @Override
+    public String evaluateString() {
+        return this.leftNode.evaluateString() + this.rightNode.evaluateString();
+    }
+}
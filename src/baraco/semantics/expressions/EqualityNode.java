@@ -0,0 +1,86 @@
+package baraco.semantics.expressions;
+
+import java.math.BigDecimal;
+
+/**
+ * An == or != comparison. Operands are compared as strings if either of them is a string.
+ */
+public class EqualityNode extends ExpressionNode {
+
+    private final ExpressionNode leftNode;
+    private final ExpressionNode rightNode;
+    private final boolean negated;
+
+    public EqualityNode(ExpressionNode leftNode, ExpressionNode rightNode, boolean negated) {
+        this.leftNode = leftNode;
+        this.rightNode = rightNode;
+        this.negated = negated;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.leftNode, this.rightNode};
+    }
+
+    @Override
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return new EqualityNode(children[0], children[1], this.negated);
+    }
+
+    @Override
+    public String getStructureKey() {
+        return (this.negated ? "NOT_EQUAL(" : "EQUAL(") + this.leftNode.getStructureKey() + "," + this.rightNode.getStructureKey() + ")";
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return ResultType.NUMERIC;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return true;
+    }
+
+    private boolean evaluateBoolean() {
+        boolean equal;
+
+        if(!this.leftNode.isNumeric() || !this.rightNode.isNumeric()) {
+            equal = this.leftNode.evaluateString().equals(this.rightNode.evaluateString());
+        }
+        else if(this.arbitraryPrecision) {
+            equal = this.leftNode.evaluateNumeric().compareTo(this.rightNode.evaluateNumeric()) == 0;
+        }
+        else {
+            //every int converts to a double exactly
+            equal = this.leftNode.evaluateDecimal() == this.rightNode.evaluateDecimal();
+        }
+
+        return equal != this.negated;
+    }
+
+    @Override
+    public boolean evaluateTruth() {
+        return this.evaluateBoolean();
+    }
+
+    @Override
+    public boolean evaluatePredicate() {
+        return this.evaluateBoolean();
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        return this.evaluateBoolean() ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+
+    @Override
+    public int evaluateInt() {
+        return this.evaluateBoolean() ? 1 : 0;
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        return this.evaluateInt();
+    }
+}
@@ -0,0 +1,236 @@
+package baraco.semantics.expressions;
+
+import baraco.antlr.lexer.BaracoLexer;
+import baraco.antlr.parser.BaracoParser.*;
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionManager;
+import baraco.representations.BaracoArray;
+import baraco.representations.BaracoMethod;
+import baraco.representations.BaracoValue;
+import baraco.semantics.searching.VariableSearcher;
+import baraco.semantics.symboltable.SymbolTableManager;
+import baraco.semantics.symboltable.scopes.ClassScope;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lowers an expression parse tree into an expression node tree.
+ * This is done once while the statements are being analyzed, so that commands no longer
+ * re-stringify and re-parse their expressions every time they are executed.
+ */
+public class ExpressionCompiler {
+
+    private final static String TAG = "ExpressionCompiler";
+
+    public static ExpressionNode compile(ExpressionContext exprCtx) {
+        if(exprCtx == null) {
+            return new InvalidNode("empty expression");
+        }
+
+        int childCount = exprCtx.getChildCount();
+
+        if(exprCtx.primary() != null) {
+            return compilePrimary(exprCtx.primary());
+        }
+        else if(isFunctionCall(exprCtx)) {
+            return compileMethodCall(exprCtx);
+        }
+        else if(isArrayElement(exprCtx)) {
+            return compileArrayElement(exprCtx);
+        }
+        else if(childCount == 2 && exprCtx.getChild(0) instanceof TerminalNode && exprCtx.expression().size() == 1) {
+            return compilePrefix(exprCtx, getOperatorType(exprCtx, 0));
+        }
+        else if(childCount == 3 && exprCtx.expression().size() == 2 && exprCtx.getChild(1) instanceof TerminalNode) {
+            return compileBinary(exprCtx, getOperatorType(exprCtx, 1));
+        }
+
+        return new InvalidNode(exprCtx.getText());
+    }
+
+    private static ExpressionNode compilePrimary(PrimaryContext primaryCtx) {
+        if(primaryCtx.expression() != null) {
+            return compile(primaryCtx.expression());
+        }
+        else if(primaryCtx.literal() != null) {
+            return compileLiteral(primaryCtx.literal());
+        }
+        else if(primaryCtx.Identifier() != null) {
+            String identifier = primaryCtx.Identifier().getText();
+            BaracoValue baracoValue = resolveVariable(identifier);
+
+            if(baracoValue == null) {
+                return new VariableNode(identifier, BaracoValue.PrimitiveType.NOT_YET_IDENTIFIED);
+            }
+
+            return new VariableNode(identifier, baracoValue.getPrimitiveType());
+        }
+
+        return new InvalidNode(primaryCtx.getText());
+    }
+
+    private static ExpressionNode compileLiteral(LiteralContext literalCtx) {
+        String literalText = literalCtx.getText();
+
+        if(literalCtx.IntegerLiteral() != null || literalCtx.FloatingPointLiteral() != null) {
+            BigDecimal exactValue;
+
+            try {
+                exactValue = new BigDecimal(literalText);
+            } catch(NumberFormatException ex) {
+                return new InvalidNode(literalText);
+            }
+
+            BigDecimal numericValue = exactValue.round(ExpressionNode.MATH_CONTEXT);
+
+            //integer literals that do not fit an int are treated as decimals
+            if(literalCtx.IntegerLiteral() != null) {
+                try {
+                    return LiteralNode.createInteger(numericValue, exactValue.intValueExact());
+                } catch(ArithmeticException ex) {
+                    return LiteralNode.createDecimal(numericValue, exactValue.doubleValue());
+                }
+            }
+
+            return LiteralNode.createDecimal(numericValue, exactValue.doubleValue());
+        }
+        else if(literalCtx.BooleanLiteral() != null) {
+            return Boolean.parseBoolean(literalText) ?
+                    LiteralNode.createInteger(BigDecimal.ONE, 1) : LiteralNode.createInteger(BigDecimal.ZERO, 0);
+        }
+        else if(literalCtx.StringLiteral() != null || literalCtx.CharacterLiteral() != null) {
+            return LiteralNode.createString(literalText.substring(1, literalText.length() - 1));
+        }
+
+        return new InvalidNode(literalText);
+    }
+
+    private static ExpressionNode compileMethodCall(ExpressionContext exprCtx) {
+        String methodName = exprCtx.expression(0).getText();
+
+        ClassScope classScope = SymbolTableManager.getInstance().getClassScope(
+                ParserHandler.getInstance().getCurrentClassName());
+        BaracoMethod baracoMethod = classScope.searchMethod(methodName);
+
+        List<ExpressionNode> argumentNodes = new ArrayList<ExpressionNode>();
+
+        if(exprCtx.expressionList() != null) {
+            for(ExpressionContext argumentCtx : exprCtx.expressionList().expression()) {
+                argumentNodes.add(compile(argumentCtx));
+            }
+        }
+
+        return new MethodCallNode(methodName, baracoMethod, argumentNodes);
+    }
+
+    private static ExpressionNode compileArrayElement(ExpressionContext exprCtx) {
+        String identifier = exprCtx.expression(0).getText();
+        BaracoValue baracoValue = resolveVariable(identifier);
+        BaracoValue.PrimitiveType elementType = BaracoValue.PrimitiveType.NOT_YET_IDENTIFIED;
+
+        if(baracoValue != null && baracoValue.getValue() instanceof BaracoArray) {
+            elementType = ((BaracoArray) baracoValue.getValue()).getPrimitiveType();
+        }
+
+        return new ArrayElementNode(identifier, compile(exprCtx.expression(1)), elementType,
+                exprCtx.getStart().getLine());
+    }
+
+    private static ExpressionNode compilePrefix(ExpressionContext exprCtx, int operatorType) {
+        ExpressionNode operand = compile(exprCtx.expression(0));
+
+        switch(operatorType) {
+            case BaracoLexer.SUB: return new UnaryNode(UnaryNode.Operator.NEGATE, operand);
+            case BaracoLexer.ADD: return new UnaryNode(UnaryNode.Operator.PLUS, operand);
+            case BaracoLexer.BANG: return new UnaryNode(UnaryNode.Operator.NOT, operand);
+            default: return new InvalidNode(exprCtx.getText());
+        }
+    }
+
+    private static ExpressionNode compileBinary(ExpressionContext exprCtx, int operatorType) {
+        ExpressionNode leftNode = compile(exprCtx.expression(0));
+        ExpressionNode rightNode = compile(exprCtx.expression(1));
+
+        if(operatorType == BaracoLexer.EQUAL || operatorType == BaracoLexer.NOTEQUAL) {
+            return new EqualityNode(leftNode, rightNode, operatorType == BaracoLexer.NOTEQUAL);
+        }
+
+        BinaryNode.Operator operator = toBinaryOperator(operatorType);
+
+        if(operator == null) {
+            return new InvalidNode(exprCtx.getText());
+        }
+
+        //string operands are joined, as with the previous evaluator
+        if(!leftNode.isNumeric() || !rightNode.isNumeric()) {
+            return new ConcatenationNode(leftNode, rightNode);
+        }
+
+        return new BinaryNode(operator, leftNode, rightNode);
+    }
+
+    private static BinaryNode.Operator toBinaryOperator(int operatorType) {
+        switch(operatorType) {
+            case BaracoLexer.ADD: return BinaryNode.Operator.ADD;
+            case BaracoLexer.SUB: return BinaryNode.Operator.SUBTRACT;
+            case BaracoLexer.MUL: return BinaryNode.Operator.MULTIPLY;
+            case BaracoLexer.DIV: return BinaryNode.Operator.DIVIDE;
+            case BaracoLexer.MOD: return BinaryNode.Operator.MODULO;
+            case BaracoLexer.CARET: return BinaryNode.Operator.POWER;
+            case BaracoLexer.LT: return BinaryNode.Operator.LESS;
+            case BaracoLexer.LE: return BinaryNode.Operator.LESS_EQUAL;
+            case BaracoLexer.GT: return BinaryNode.Operator.GREATER;
+            case BaracoLexer.GE: return BinaryNode.Operator.GREATER_EQUAL;
+            case BaracoLexer.AND: return BinaryNode.Operator.AND;
+            case BaracoLexer.OR: return BinaryNode.Operator.OR;
+            default: return null;
+        }
+    }
+
+    private static int getOperatorType(ExpressionContext exprCtx, int childIndex) {
+        ParseTree child = exprCtx.getChild(childIndex);
+
+        return ((TerminalNode) child).getSymbol().getType();
+    }
+
+    /*
+     * Identifies method calls of the form name(...) and name()
+     */
+    public static boolean isFunctionCall(ExpressionContext exprCtx) {
+        if(exprCtx.expression().size() != 1 || exprCtx.getChildCount() < 3) {
+            return false;
+        }
+
+        ParseTree openingChild = exprCtx.getChild(1);
+
+        return openingChild instanceof TerminalNode &&
+                ((TerminalNode) openingChild).getSymbol().getType() == BaracoLexer.LPAREN &&
+                exprCtx.arguments() == null;
+    }
+
+    public static boolean isArrayElement(ExpressionContext exprCtx) {
+        return exprCtx.expression().size() == 2 && exprCtx.getToken(BaracoLexer.LBRACK, 0) != null;
+    }
+
+    /*
+     * Searches the variable the same way the undeclared checker does during analysis.
+     */
+    private static BaracoValue resolveVariable(String identifier) {
+        BaracoValue baracoValue = null;
+
+        if(ExecutionManager.getInstance().isInFunctionExecution()) {
+            baracoValue = VariableSearcher.searchVariableInFunction(ExecutionManager.getInstance().getCurrentFunction(), identifier);
+        }
+
+        if(baracoValue == null) {
+            ClassScope classScope = SymbolTableManager.getInstance().getClassScope(ParserHandler.getInstance().getCurrentClassName());
+            baracoValue = VariableSearcher.searchVariableInClassIncludingLocal(classScope, identifier);
+        }
+
+        return baracoValue;
+    }
+}
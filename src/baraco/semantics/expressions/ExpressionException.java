@@ -0,0 +1,15 @@
+package baraco.semantics.expressions;
+
+/**
+ * Thrown while evaluating a compiled expression that cannot produce a value, such as an unknown variable or an
+ * array element that is out of bounds. The {@link baraco.execution.commands.EvaluationCommand} that runs the
+ * expression catches it and records that the evaluation failed.
+ */
+public class ExpressionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ExpressionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,204 @@
+package baraco.semantics.expressions;
+
+import baraco.execution.ExecutionContext;
+import baraco.representations.BaracoValue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * A node of a compiled expression tree. Nodes are created once by the {@link ExpressionCompiler} at build time and
+ * evaluated as many times as the owning command is executed. The structure of a tree does not change after it is
+ * built, but nodes are not immutable: a {@link SharedNode} keeps the value of its operand during one evaluation of
+ * its {@link SharedScopeNode}, so a tree must not be evaluated by two threads at the same time.
+ */
+public abstract class ExpressionNode {
+
+    //the math context used by the previous string-based evaluator. Kept so that results stay the same.
+    public final static MathContext MATH_CONTEXT = MathContext.DECIMAL32;
+
+    public enum ResultType {
+        NUMERIC,
+        STRING
+    }
+
+    protected final static ExpressionNode[] NO_CHILDREN = new ExpressionNode[0];
+
+    //the mode of the context the node was compiled in
+    protected final boolean arbitraryPrecision =
+            ExecutionContext.getCurrent().getArithmeticMode() == ArithmeticMode.ARBITRARY;
+
+    /*
+     * Returns the type that this node produces. This is known at build time.
+     */
+    public abstract ResultType getResultType();
+
+    /*
+     * Returns true if this node produces an int in the default arithmetic mode. Booleans count as ints.
+     */
+    public boolean isIntegral() {
+        return false;
+    }
+
+    /*
+     * Evaluates this node as a number with arbitrary precision. Booleans are represented as 1 and 0.
+     */
+    public abstract BigDecimal evaluateNumeric();
+
+    /*
+     * Evaluates this node with int arithmetic. Decimal nodes are truncated the same way a Java cast does.
+     */
+    public abstract int evaluateInt();
+
+    /*
+     * Evaluates this node with double arithmetic.
+     */
+    public abstract double evaluateDecimal();
+
+    /*
+     * Evaluates this node as a string. Numeric nodes return the string form of the active arithmetic mode.
+     */
+    public String evaluateString() {
+        if(this.arbitraryPrecision) {
+            return this.evaluateNumeric().toEngineeringString();
+        }
+        else if(this.isIntegral()) {
+            return Integer.toString(this.evaluateInt());
+        }
+        else {
+            return Double.toString(this.evaluateDecimal());
+        }
+    }
+
+    public boolean isNumeric() {
+        return this.getResultType() == ResultType.NUMERIC;
+    }
+
+    /*
+     * Returns true if this node evaluates numbers with arbitrary precision instead of int and double arithmetic.
+     */
+    public boolean isArbitraryPrecision() {
+        return this.arbitraryPrecision;
+    }
+
+    /*
+     * Returns the operands of this node, in evaluation order. Leaves have none.
+     */
+    public ExpressionNode[] getChildren() {
+        return NO_CHILDREN;
+    }
+
+    /*
+     * Returns the same operation applied to the given operands. Used by the optimization passes to rebuild a tree.
+     */
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return this;
+    }
+
+    /*
+     * Returns true if evaluating this node has no effect other than producing a value.
+     */
+    public boolean isPure() {
+        for(ExpressionNode child : this.getChildren()) {
+            if(!child.isPure()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Returns true if this node computes its value from its operands alone, so it can be evaluated
+     * at build time once all of its operands are literals.
+     */
+    public boolean isFoldable() {
+        return this.isPure();
+    }
+
+    /*
+     * Returns a key that two nodes share only if they compute the same value from the same variables.
+     */
+    public abstract String getStructureKey();
+
+    /*
+     * Converts the current value of a baraco value to its numeric equivalent, reading the primitive directly.
+     */
+    protected static BigDecimal toNumeric(BaracoValue baracoValue) {
+        switch(baracoValue.getPrimitiveType()) {
+            case INT:
+                return new BigDecimal(baracoValue.getIntValue(), MATH_CONTEXT);
+            case DECIMAL:
+                checkInitialized(baracoValue);
+                return new BigDecimal(Double.toString(baracoValue.getDecimalValue()), MATH_CONTEXT);
+            case BOOL:
+                checkInitialized(baracoValue);
+                return baracoValue.getBoolValue() ? BigDecimal.ONE : BigDecimal.ZERO;
+            default:
+                throw new ExpressionException(baracoValue.getValue() + " is not a numeric value");
+        }
+    }
+
+    protected static int toInt(BaracoValue baracoValue) {
+        switch(baracoValue.getPrimitiveType()) {
+            case INT:
+                return baracoValue.getIntValue();
+            case DECIMAL:
+                checkInitialized(baracoValue);
+                return (int) baracoValue.getDecimalValue();
+            case BOOL:
+                checkInitialized(baracoValue);
+                return baracoValue.getBoolValue() ? 1 : 0;
+            default:
+                throw new ExpressionException(baracoValue.getValue() + " is not a numeric value");
+        }
+    }
+
+    protected static double toDecimal(BaracoValue baracoValue) {
+        switch(baracoValue.getPrimitiveType()) {
+            case INT:
+                return baracoValue.getIntValue();
+            case DECIMAL:
+                checkInitialized(baracoValue);
+                return baracoValue.getDecimalValue();
+            case BOOL:
+                checkInitialized(baracoValue);
+                return baracoValue.getBoolValue() ? 1 : 0;
+            default:
+                throw new ExpressionException(baracoValue.getValue() + " is not a numeric value");
+        }
+    }
+
+    private static void checkInitialized(BaracoValue baracoValue) {
+        if(baracoValue.isUnset()) {
+            throw new ExpressionException("Value is not yet initialized");
+        }
+    }
+
+    /*
+     * Evaluates this node as an operand of a logical operator, where any value other than 0 is true.
+     */
+    public boolean evaluateTruth() {
+        if(this.arbitraryPrecision) {
+            return isTrue(this.evaluateNumeric());
+        }
+
+        return this.isIntegral() ? this.evaluateInt() != 0 : this.evaluateDecimal() != 0;
+    }
+
+    /*
+     * Evaluates this node as the condition of a statement, where only 1 is true.
+     * Comparisons and logical operators override this to produce the boolean directly.
+     */
+    public boolean evaluatePredicate() {
+        if(this.arbitraryPrecision) {
+            return this.evaluateNumeric().compareTo(BigDecimal.ONE) == 0;
+        }
+
+        return this.isIntegral() ? this.evaluateInt() == 1 : this.evaluateDecimal() == 1;
+    }
+
+    protected static boolean isTrue(BigDecimal value) {
+        return value.compareTo(BigDecimal.ZERO) != 0;
+    }
+}
@@ -0,0 +1,42 @@
+package baraco.semantics.expressions;
+
+
+import java.math.BigDecimal;
+
+/**
+ * Stands in for a construct that cannot be evaluated, such as a nested assignment or an unsupported operator.
+ * Evaluating it fails the same way the string-based evaluator used to.
+ */
+public class InvalidNode extends ExpressionNode {
+
+    private final String expressionText;
+
+    public InvalidNode(String expressionText) {
+        this.expressionText = expressionText;
+    }
+
+    @Override
+    public String getStructureKey() {
+        return "invalid(" + this.expressionText + ")";
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return ResultType.NUMERIC;
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        throw new ExpressionException("Cannot evaluate " + this.expressionText);
+    }
+
+    @Override
+    public int evaluateInt() {
+        throw new ExpressionException("Cannot evaluate " + this.expressionText);
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        throw new ExpressionException("Cannot evaluate " + this.expressionText);
+    }
+}
@@ -0,0 +1,105 @@
+package baraco.semantics.expressions;
+
+
+import java.math.BigDecimal;
+
+/**
+ * A numeric, boolean, character or string literal. The value is parsed once during compilation,
+ * in every form that the arithmetic modes need.
+ */
+public class LiteralNode extends ExpressionNode {
+
+    private final BigDecimal numericValue;
+    private final boolean integral;
+    private final int intValue;
+    private final double decimalValue;
+    private final String stringValue;
+
+    private LiteralNode(BigDecimal numericValue, boolean integral, int intValue, double decimalValue, String stringValue) {
+        this.numericValue = numericValue;
+        this.integral = integral;
+        this.intValue = intValue;
+        this.decimalValue = decimalValue;
+        this.stringValue = stringValue;
+    }
+
+    public static LiteralNode createInteger(BigDecimal value, int intValue) {
+        return new LiteralNode(value, true, intValue, intValue, null);
+    }
+
+    public static LiteralNode createDecimal(BigDecimal value, double decimalValue) {
+        return new LiteralNode(value, false, (int) decimalValue, decimalValue, null);
+    }
+
+    public static LiteralNode createString(String value) {
+        return new LiteralNode(null, false, 0, 0, value);
+    }
+
+    /*
+     * Evaluates a constant numeric node both as a BigDecimal, which the structure key and arbitrary precision read,
+     * and as the int or double that native arithmetic reads.
+     */
+    public static LiteralNode createFolded(ExpressionNode node) {
+        if(node.isIntegral()) {
+            return createInteger(node.evaluateNumeric(), node.evaluateInt());
+        }
+        else {
+            return createDecimal(node.evaluateNumeric(), node.evaluateDecimal());
+        }
+    }
+
+    @Override
+    public String getStructureKey() {
+        if(this.stringValue != null) {
+            return "\"" + this.stringValue + "\"";
+        }
+
+        return (this.integral ? "int:" : "decimal:") + this.numericValue.toString();
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return this.stringValue != null ? ResultType.STRING : ResultType.NUMERIC;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return this.integral;
+    }
+
+    private void checkNumeric() {
+        if(this.numericValue == null) {
+            throw new ExpressionException(this.stringValue + " is not a numeric value");
+        }
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        this.checkNumeric();
+
+        return this.numericValue;
+    }
+
+    @Override
+    public int evaluateInt() {
+        this.checkNumeric();
+
+        return this.intValue;
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        this.checkNumeric();
+
+        return this.decimalValue;
+    }
+
+    @Override
+    public String evaluateString() {
+        if(this.stringValue != null) {
+            return this.stringValue;
+        }
+
+        return super.evaluateString();
+    }
+}
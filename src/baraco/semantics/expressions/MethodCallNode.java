@@ -0,0 +1,166 @@
+package baraco.semantics.expressions;
+
+import baraco.builder.ParserHandler;
+import baraco.representations.BaracoMethod;
+import baraco.representations.BaracoValue;
+import baraco.semantics.symboltable.SymbolTableManager;
+import baraco.semantics.symboltable.scopes.ClassScope;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A call to a user defined method whose return value is used inside an expression.
+ */
+public class MethodCallNode extends ExpressionNode {
+
+    private final String methodName;
+    private final ExpressionNode[] argumentNodes;
+    private BaracoMethod baracoMethod;
+
+    public MethodCallNode(String methodName, BaracoMethod baracoMethod, List<ExpressionNode> argumentNodes) {
+        this(methodName, baracoMethod, argumentNodes.toArray(new ExpressionNode[argumentNodes.size()]));
+    }
+
+    private MethodCallNode(String methodName, BaracoMethod baracoMethod, ExpressionNode[] argumentNodes) {
+        this.methodName = methodName;
+        this.baracoMethod = baracoMethod;
+        this.argumentNodes = argumentNodes;
+    }
+
+    /*
+     * Methods declared after the caller are not yet known at build time, so they are searched on first use.
+     */
+    private BaracoMethod searchMethod() {
+        if(this.baracoMethod == null) {
+            ClassScope classScope = SymbolTableManager.getInstance().getClassScope(
+                    ParserHandler.getInstance().getCurrentClassName());
+            this.baracoMethod = classScope.searchMethod(this.methodName);
+        }
+
+        return this.baracoMethod;
+    }
+
+    private BaracoMethod getMethod() {
+        BaracoMethod baracoMethod = this.searchMethod();
+
+        if(baracoMethod == null) {
+            throw new ExpressionException("Unknown method " + this.methodName);
+        }
+
+        return baracoMethod;
+    }
+
+    /*
+     * Evaluates all arguments first before mapping them, since a recursive call shares its parameters with the caller.
+     */
+    private BaracoValue invoke() {
+        BaracoMethod baracoMethod = this.getMethod();
+        Object[] arguments = new Object[this.argumentNodes.length];
+
+        for(int i = 0; i < this.argumentNodes.length; i++) {
+            ExpressionNode argumentNode = this.argumentNodes[i];
+
+            if(argumentNode instanceof VariableNode && ((VariableNode) argumentNode).isArray()) {
+                arguments[i] = ((VariableNode) argumentNode).lookup();
+            }
+            else {
+                arguments[i] = argumentNode.evaluateString();
+            }
+        }
+
+        for(int i = 0; i < arguments.length; i++) {
+            if(arguments[i] instanceof BaracoValue) {
+                baracoMethod.mapArrayAt((BaracoValue) arguments[i], i, ((VariableNode) this.argumentNodes[i]).getIdentifier());
+            }
+            else {
+                baracoMethod.mapParameterByValueAt((String) arguments[i], i);
+            }
+        }
+
+        baracoMethod.execute();
+
+        BaracoValue returnValue = baracoMethod.getReturnValue();
+
+        if(returnValue == null) {
+            throw new ExpressionException(this.methodName + " does not return a value");
+        }
+
+        return returnValue;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return this.argumentNodes.clone();
+    }
+
+    @Override
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return new MethodCallNode(this.methodName, this.baracoMethod, children.clone());
+    }
+
+    /*
+     * A method may assign variables or print, so calls are never folded or shared.
+     */
+    @Override
+    public boolean isPure() {
+        return false;
+    }
+
+    @Override
+    public String getStructureKey() {
+        StringBuilder key = new StringBuilder(this.methodName).append("(");
+
+        for(ExpressionNode argumentNode : this.argumentNodes) {
+            key.append(argumentNode.getStructureKey()).append(",");
+        }
+
+        return key.append(")").toString();
+    }
+
+    @Override
+    public ResultType getResultType() {
+        if(this.baracoMethod != null && (this.baracoMethod.getReturnType() == BaracoMethod.MethodType.STRING_TYPE ||
+                this.baracoMethod.getReturnType() == BaracoMethod.MethodType.CHAR_TYPE)) {
+            return ResultType.STRING;
+        }
+
+        return ResultType.NUMERIC;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        BaracoMethod baracoMethod = this.searchMethod();
+
+        return baracoMethod != null && (baracoMethod.getReturnType() == BaracoMethod.MethodType.INT_TYPE ||
+                baracoMethod.getReturnType() == BaracoMethod.MethodType.BOOL_TYPE);
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        BaracoValue returnValue = this.invoke();
+
+        return toNumeric(returnValue);
+    }
+
+    @Override
+    public int evaluateInt() {
+        return toInt(this.invoke());
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        return toDecimal(this.invoke());
+    }
+
+    @Override
+    public String evaluateString() {
+        if(this.isNumeric()) {
+            return super.evaluateString();
+        }
+
+        Object value = this.invoke().getValue();
+
+        return value == null ? "null" : value.toString();
+    }
+}
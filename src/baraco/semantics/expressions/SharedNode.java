@@ -0,0 +1,96 @@
+package baraco.semantics.expressions;
+
+import java.math.BigDecimal;
+
+/**
+ * A subexpression that occurs more than once in the same expression. It is evaluated at its first use and
+ * the value is reused by the other uses until the enclosing {@link SharedScopeNode} starts a new evaluation.
+ */
+public class SharedNode extends ExpressionNode {
+
+    private final ExpressionNode sharedNode;
+
+    private BigDecimal numericValue;
+    private String stringValue;
+    private int intValue;
+    private double decimalValue;
+
+    private boolean intEvaluated = false;
+    private boolean decimalEvaluated = false;
+
+    public SharedNode(ExpressionNode sharedNode) {
+        this.sharedNode = sharedNode;
+    }
+
+    /*
+     * Forgets the value of the previous evaluation.
+     */
+    void invalidate() {
+        this.numericValue = null;
+        this.stringValue = null;
+        this.intEvaluated = false;
+        this.decimalEvaluated = false;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.sharedNode};
+    }
+
+    @Override
+    public String getStructureKey() {
+        return this.sharedNode.getStructureKey();
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return this.sharedNode.getResultType();
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return this.sharedNode.isIntegral();
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        if(this.numericValue == null) {
+            this.numericValue = this.sharedNode.evaluateNumeric();
+        }
+
+        return this.numericValue;
+    }
+
+    @Override
+    public int evaluateInt() {
+        if(!this.intEvaluated) {
+            this.intValue = this.sharedNode.evaluateInt();
+            this.intEvaluated = true;
+        }
+
+        return this.intValue;
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        if(!this.decimalEvaluated) {
+            this.decimalValue = this.sharedNode.evaluateDecimal();
+            this.decimalEvaluated = true;
+        }
+
+        return this.decimalValue;
+    }
+
+    @Override
+    public String evaluateString() {
+        if(this.isNumeric()) {
+            return super.evaluateString();
+        }
+
+        if(this.stringValue == null) {
+            this.stringValue = this.sharedNode.evaluateString();
+        }
+
+        return this.stringValue;
+    }
+}
@@ -0,0 +1,87 @@
+package baraco.semantics.expressions;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The root of an expression that contains shared subexpressions. Each evaluation starts by forgetting
+ * the values that the shared nodes kept from the previous one.
+ */
+public class SharedScopeNode extends ExpressionNode {
+
+    private final ExpressionNode rootNode;
+    private final SharedNode[] sharedNodes;
+
+    public SharedScopeNode(ExpressionNode rootNode, List<SharedNode> sharedNodes) {
+        this.rootNode = rootNode;
+        this.sharedNodes = sharedNodes.toArray(new SharedNode[sharedNodes.size()]);
+    }
+
+    private void invalidateSharedNodes() {
+        for(SharedNode sharedNode : this.sharedNodes) {
+            sharedNode.invalidate();
+        }
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.rootNode};
+    }
+
+    @Override
+    public String getStructureKey() {
+        return this.rootNode.getStructureKey();
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return this.rootNode.getResultType();
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return this.rootNode.isIntegral();
+    }
+
+    @Override
+    public int evaluateInt() {
+        this.invalidateSharedNodes();
+
+        return this.rootNode.evaluateInt();
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        this.invalidateSharedNodes();
+
+        return this.rootNode.evaluateDecimal();
+    }
+
+    @Override
+    public boolean evaluateTruth() {
+        this.invalidateSharedNodes();
+
+        return this.rootNode.evaluateTruth();
+    }
+
+    @Override
+    public boolean evaluatePredicate() {
+        this.invalidateSharedNodes();
+
+        return this.rootNode.evaluatePredicate();
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        this.invalidateSharedNodes();
+
+        return this.rootNode.evaluateNumeric();
+    }
+
+    @Override
+    public String evaluateString() {
+        this.invalidateSharedNodes();
+
+        return this.rootNode.evaluateString();
+    }
+}
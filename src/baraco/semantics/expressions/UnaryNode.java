@@ -0,0 +1,97 @@
+package baraco.semantics.expressions;
+
+import java.math.BigDecimal;
+
+/**
+ * A prefix operator applied to a numeric operand.
+ */
+public class UnaryNode extends ExpressionNode {
+
+    public enum Operator {
+        NEGATE,
+        PLUS,
+        NOT
+    }
+
+    private final static BigDecimal NEGATIVE_ONE = new BigDecimal(-1);
+
+    private final Operator operator;
+    private final ExpressionNode operand;
+
+    public UnaryNode(Operator operator, ExpressionNode operand) {
+        this.operator = operator;
+        this.operand = operand;
+    }
+
+    @Override
+    public ExpressionNode[] getChildren() {
+        return new ExpressionNode[] {this.operand};
+    }
+
+    @Override
+    public ExpressionNode withChildren(ExpressionNode[] children) {
+        return new UnaryNode(this.operator, children[0]);
+    }
+
+    @Override
+    public String getStructureKey() {
+        return this.operator + "(" + this.operand.getStructureKey() + ")";
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return ResultType.NUMERIC;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return this.operator == Operator.NOT || this.operand.isIntegral();
+    }
+
+    @Override
+    public int evaluateInt() {
+        if(this.operator == Operator.NOT) {
+            return this.operand.evaluateTruth() ? 0 : 1;
+        }
+        else if(!this.operand.isIntegral()) {
+            return (int) this.evaluateDecimal();
+        }
+
+        int value = this.operand.evaluateInt();
+
+        return this.operator == Operator.NEGATE ? -value : value;
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        if(this.isIntegral()) {
+            return this.evaluateInt();
+        }
+
+        double value = this.operand.evaluateDecimal();
+
+        return this.operator == Operator.NEGATE ? -value : value;
+    }
+
+    @Override
+    public boolean evaluateTruth() {
+        return this.operator == Operator.NOT ? !this.operand.evaluateTruth() : super.evaluateTruth();
+    }
+
+    @Override
+    public boolean evaluatePredicate() {
+        return this.operator == Operator.NOT ? !this.operand.evaluateTruth() : super.evaluatePredicate();
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        BigDecimal value = this.operand.evaluateNumeric();
+
+        switch(this.operator) {
+            case NEGATE: return value.multiply(NEGATIVE_ONE);
+            case PLUS: return value.multiply(BigDecimal.ONE);
+            case NOT: return isTrue(value) ? BigDecimal.ZERO : BigDecimal.ONE;
+            default: return value;
+        }
+    }
+}
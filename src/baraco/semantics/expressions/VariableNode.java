@@ -0,0 +1,103 @@
+package baraco.semantics.expressions;
+
+import baraco.representations.BaracoValue;
+import baraco.semantics.searching.VariableReference;
+
+import java.math.BigDecimal;
+
+/**
+ * A reference to a declared variable. The primitive type is resolved at build time and the declaration is
+ * bound once the program has been parsed.
+ */
+public class VariableNode extends ExpressionNode {
+
+    private final String identifier;
+    private final BaracoValue.PrimitiveType primitiveType;
+    private final VariableReference variableReference;
+
+    public VariableNode(String identifier, BaracoValue.PrimitiveType primitiveType) {
+        this.identifier = identifier;
+        this.primitiveType = primitiveType;
+        this.variableReference = new VariableReference(identifier);
+    }
+
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    public BaracoValue.PrimitiveType getPrimitiveType() {
+        return this.primitiveType;
+    }
+
+    public boolean isArray() {
+        return this.primitiveType == BaracoValue.PrimitiveType.ARRAY;
+    }
+
+    /*
+     * Returns the baraco value currently bound to this identifier.
+     */
+    public BaracoValue lookup() {
+        BaracoValue baracoValue = this.variableReference.getBaracoValue();
+
+        if(baracoValue == null) {
+            throw new ExpressionException("Unknown variable " + this.identifier);
+        }
+
+        return baracoValue;
+    }
+
+    @Override
+    public String getStructureKey() {
+        return this.identifier;
+    }
+
+    @Override
+    public ResultType getResultType() {
+        if(this.primitiveType == BaracoValue.PrimitiveType.STRING || this.primitiveType == BaracoValue.PrimitiveType.CHAR) {
+            return ResultType.STRING;
+        }
+
+        return ResultType.NUMERIC;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return this.primitiveType == BaracoValue.PrimitiveType.INT || this.primitiveType == BaracoValue.PrimitiveType.BOOL;
+    }
+
+    private BaracoValue lookupScalar() {
+        BaracoValue baracoValue = this.lookup();
+
+        if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.ARRAY) {
+            throw new ExpressionException(this.identifier + " is an array");
+        }
+
+        return baracoValue;
+    }
+
+    @Override
+    public BigDecimal evaluateNumeric() {
+        return toNumeric(this.lookupScalar());
+    }
+
+    @Override
+    public int evaluateInt() {
+        return toInt(this.lookupScalar());
+    }
+
+    @Override
+    public double evaluateDecimal() {
+        return toDecimal(this.lookupScalar());
+    }
+
+    @Override
+    public String evaluateString() {
+        if(this.isNumeric()) {
+            return super.evaluateString();
+        }
+
+        Object value = this.lookup().getValue();
+
+        return value == null ? "null" : value.toString();
+    }
+}
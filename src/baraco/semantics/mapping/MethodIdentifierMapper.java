@@ -119,7 +119,7 @@ public class MethodIdentifierMapper implements ParseTreeListener, IValueMapper {
                 evCmd.execute();
 
                 ExecutionManager.getInstance().setCurrentCheckedLineNumber(exprCtx.getStart().getLine());
-                BaracoValue arrayMobiValue = baracoArray.getValueAt(evCmd.getResult().intValue());
+                BaracoValue arrayMobiValue = baracoArray.getValueAt(evCmd.getIntResult());
 
                 if (arrayMobiValue == null)
                     return;
@@ -129,7 +129,7 @@ public class MethodIdentifierMapper implements ParseTreeListener, IValueMapper {
                     this.modifiedExp = this.modifiedExp.replace(exprCtx.getText(), "\"" + arrayMobiValue.getValue().toString() + "\"");
                 } else {
                     //this.modifiedExp = this.modifiedExp.replaceFirst(exprCtx.expression(0).getText() + "\\[([a-zA-Z0-9]*)]", arrayMobiValue.getValue().toString());
-                    this.modifiedExp = this.modifiedExp.replace(exprCtx.expression(0).getText() + "[" + evCmd.getResult().intValue() + "]", arrayMobiValue.getValue().toString());
+                    this.modifiedExp = this.modifiedExp.replace(exprCtx.expression(0).getText() + "[" + evCmd.getIntResult() + "]", arrayMobiValue.getValue().toString());
                 }
 
             }
@@ -0,0 +1,118 @@
+package baraco.semantics.optimization;
+
+import baraco.semantics.expressions.ExpressionNode;
+import baraco.semantics.expressions.SharedNode;
+import baraco.semantics.expressions.SharedScopeNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Evaluates an operation that occurs more than once in the same expression only once, as in (a + b) * (a + b).
+ * A method call may change a variable between two uses, so operations are only shared within the parts of an
+ * expression that contain no call, such as the arguments of a call or the operands next to it.
+ */
+public class CommonSubexpressionPass implements IOptimizationPass {
+
+    public final static String NAME = "common-subexpression-elimination";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ExpressionNode optimize(ExpressionNode rootNode) {
+        if(rootNode.isPure()) {
+            return shareWithin(rootNode);
+        }
+
+        ExpressionNode[] children = rootNode.getChildren();
+        ExpressionNode[] optimizedChildren = new ExpressionNode[children.length];
+        boolean changed = false;
+
+        for(int i = 0; i < children.length; i++) {
+            optimizedChildren[i] = this.optimize(children[i]);
+            changed |= (optimizedChildren[i] != children[i]);
+        }
+
+        return changed ? rootNode.withChildren(optimizedChildren) : rootNode;
+    }
+
+    /*
+     * Shares the repeated operations of an expression without method calls, under one scope that forgets the
+     * shared values before every evaluation.
+     */
+    private static ExpressionNode shareWithin(ExpressionNode rootNode) {
+        HashMap<String, Integer> occurrences = new HashMap<String, Integer>();
+        countOccurrences(rootNode, occurrences);
+
+        HashMap<String, SharedNode> sharedNodes = new HashMap<String, SharedNode>();
+        List<SharedNode> sharedNodeList = new ArrayList<SharedNode>();
+        ExpressionNode node = share(rootNode, occurrences, sharedNodes, sharedNodeList);
+
+        if(sharedNodeList.isEmpty()) {
+            return rootNode;
+        }
+
+        return new SharedScopeNode(node, sharedNodeList);
+    }
+
+    /*
+     * Counts the operations by structure. Variables and literals are not worth sharing.
+     */
+    private static void countOccurrences(ExpressionNode node, HashMap<String, Integer> occurrences) {
+        ExpressionNode[] children = node.getChildren();
+
+        if(children.length == 0) {
+            return;
+        }
+
+        String key = node.getStructureKey();
+        Integer count = occurrences.get(key);
+        occurrences.put(key, count == null ? 1 : count + 1);
+
+        for(ExpressionNode child : children) {
+            countOccurrences(child, occurrences);
+        }
+    }
+
+    /*
+     * Replaces repeated operations with one shared node, starting from the largest ones.
+     */
+    private static ExpressionNode share(ExpressionNode node, HashMap<String, Integer> occurrences,
+                                        HashMap<String, SharedNode> sharedNodes, List<SharedNode> sharedNodeList) {
+        ExpressionNode[] children = node.getChildren();
+
+        if(children.length == 0) {
+            return node;
+        }
+
+        String key = node.getStructureKey();
+
+        if(sharedNodes.containsKey(key)) {
+            return sharedNodes.get(key);
+        }
+
+        ExpressionNode[] sharedChildren = new ExpressionNode[children.length];
+        boolean changed = false;
+
+        for(int i = 0; i < children.length; i++) {
+            sharedChildren[i] = share(children[i], occurrences, sharedNodes, sharedNodeList);
+            changed |= (sharedChildren[i] != children[i]);
+        }
+
+        ExpressionNode rebuiltNode = changed ? node.withChildren(sharedChildren) : node;
+
+        if(occurrences.get(key) > 1) {
+            SharedNode sharedNode = new SharedNode(rebuiltNode);
+            sharedNodes.put(key, sharedNode);
+            sharedNodeList.add(sharedNode);
+
+            return sharedNode;
+        }
+
+        return rebuiltNode;
+    }
+}
@@ -0,0 +1,60 @@
+package baraco.semantics.optimization;
+
+import baraco.semantics.expressions.ExpressionException;
+import baraco.semantics.expressions.ExpressionNode;
+import baraco.semantics.expressions.LiteralNode;
+
+/**
+ * Evaluates operations whose operands are all literals once, during compilation.
+ * Operations that fail, such as a division by zero, are kept so that they still fail at runtime on the right line.
+ */
+public class ConstantFoldingPass implements IOptimizationPass {
+
+    public final static String NAME = "constant-folding";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ExpressionNode optimize(ExpressionNode rootNode) {
+        ExpressionNode[] children = rootNode.getChildren();
+
+        if(children.length == 0) {
+            return rootNode;
+        }
+
+        ExpressionNode[] foldedChildren = new ExpressionNode[children.length];
+        boolean changed = false;
+        boolean constantOperands = true;
+
+        for(int i = 0; i < children.length; i++) {
+            foldedChildren[i] = this.optimize(children[i]);
+            changed |= (foldedChildren[i] != children[i]);
+            constantOperands &= (foldedChildren[i] instanceof LiteralNode);
+        }
+
+        ExpressionNode node = changed ? rootNode.withChildren(foldedChildren) : rootNode;
+
+        //nodes read the arithmetic mode when they are built, so a number in a concatenation folds to the text it prints
+        if(constantOperands && node.isFoldable()) {
+            return fold(node);
+        }
+
+        return node;
+    }
+
+    private static ExpressionNode fold(ExpressionNode node) {
+        try {
+            if(node.isNumeric()) {
+                return LiteralNode.createFolded(node);
+            }
+            else {
+                return LiteralNode.createString(node.evaluateString());
+            }
+        } catch(ExpressionException | ArithmeticException ex) {
+            return node;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package baraco.semantics.optimization;
+
+import baraco.semantics.expressions.ExpressionNode;
+
+/**
+ * A transformation of a compiled expression tree that keeps its result the same.
+ */
+public interface IOptimizationPass {
+
+    public abstract String getName();
+
+    /*
+     * Returns the optimized tree. The given tree must not be modified, since the optimized tree may reuse its nodes.
+     */
+    public abstract ExpressionNode optimize(ExpressionNode rootNode);
+}
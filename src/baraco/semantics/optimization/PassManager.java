@@ -0,0 +1,51 @@
+package baraco.semantics.optimization;
+
+import baraco.execution.ExecutionContext;
+import baraco.semantics.expressions.ExpressionNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Runs the optimization passes, in the order they were added, on every expression compiled by an evaluation command.
+ * Each execution context has its own pipeline, so changing the passes of one program does not affect the others.
+ * Passes may still be added or removed while the context builds or runs, since expressions are also compiled
+ * on the execution thread.
+ */
+public class PassManager {
+    private final static String TAG = "PassManager";
+
+    public static PassManager getInstance() {
+        return ExecutionContext.getCurrent().getPassManager();
+    }
+
+    private final List<IOptimizationPass> optimizationPasses = new CopyOnWriteArrayList<IOptimizationPass>();
+
+    public PassManager() {
+        this.addPass(new ConstantFoldingPass());
+        this.addPass(new CommonSubexpressionPass());
+    }
+
+    public void addPass(IOptimizationPass optimizationPass) {
+        this.optimizationPasses.add(optimizationPass);
+    }
+
+    public void removePass(String passName) {
+        this.optimizationPasses.removeIf(optimizationPass -> optimizationPass.getName().equals(passName));
+    }
+
+    public List<IOptimizationPass> getPasses() {
+        return new ArrayList<IOptimizationPass>(this.optimizationPasses);
+    }
+
+    public ExpressionNode optimize(ExpressionNode rootNode) {
+        ExpressionNode optimizedNode = rootNode;
+
+        for(IOptimizationPass optimizationPass : this.optimizationPasses) {
+            optimizedNode = optimizationPass.optimize(optimizedNode);
+        }
+
+        return optimizedNode;
+    }
+}
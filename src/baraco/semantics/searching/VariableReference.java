@@ -0,0 +1,76 @@
+package baraco.semantics.searching;
+
+import baraco.builder.ParserHandler;
+import baraco.execution.ExecutionManager;
+import baraco.representations.BaracoMethod;
+import baraco.representations.BaracoValue;
+import baraco.semantics.symboltable.SymbolTableManager;
+import baraco.semantics.symboltable.scopes.ClassScope;
+
+/**
+ * A use of a variable inside a command or an expression. The reference is bound to its declaration once
+ * the whole program has been parsed, so executing a command no longer searches the scopes by name.
+ * A value declared inside a method is read from that method's active frame using its slot.
+ */
+public class VariableReference {
+    private final static String TAG = "VariableReference";
+
+    private final String identifier;
+    private final BaracoMethod enclosingMethod; //the method in which the variable is used. null if used in main.
+
+    private BaracoValue baracoValue;
+
+    public VariableReference(String identifier) {
+        this.identifier = identifier;
+
+        if(ExecutionManager.getInstance().isInFunctionExecution()) {
+            this.enclosingMethod = ExecutionManager.getInstance().getCurrentFunction();
+        }
+        else {
+            this.enclosingMethod = null;
+        }
+
+        ParserHandler.getInstance().addPendingReference(this);
+    }
+
+    /*
+     * Binds this reference to its declaration. Searches the same scopes that were searched at runtime:
+     * the enclosing method first, then the class including its local scopes.
+     */
+    public void resolve() {
+        BaracoValue baracoValue = null;
+
+        if(this.enclosingMethod != null) {
+            baracoValue = VariableSearcher.searchVariableInFunction(this.enclosingMethod, this.identifier);
+        }
+
+        if(baracoValue == null) {
+            ClassScope classScope = SymbolTableManager.getInstance().getClassScope(ParserHandler.getInstance().getCurrentClassName());
+
+            if(classScope != null) {
+                baracoValue = VariableSearcher.searchVariableInClassIncludingLocal(classScope, this.identifier);
+            }
+        }
+
+        this.baracoValue = baracoValue;
+    }
+
+    public boolean isResolved() {
+        return this.baracoValue != null;
+    }
+
+    /*
+     * Returns the declaration of this variable. Resolves it first if the resolution pass has not bound it yet.
+     */
+    public BaracoValue getBaracoValue() {
+        if(this.baracoValue == null) {
+            this.resolve();
+        }
+
+        return this.baracoValue;
+    }
+
+    public String getIdentifier() {
+        return this.identifier;
+    }
+}
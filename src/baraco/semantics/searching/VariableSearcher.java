@@ -8,12 +8,14 @@ import baraco.representations.BaracoValue;
 import baraco.semantics.symboltable.SymbolTableManager;
 import baraco.semantics.symboltable.scopes.ClassScope;
 import baraco.semantics.symboltable.scopes.LocalScopeCreator;
+import baraco.utils.metrics.InterpreterMetrics;
 
 public class VariableSearcher {
     private final static String TAG = "VariableSearcher";
 
     public static BaracoValue searchVariable(String identifierString) {
         BaracoValue mobiValue = null;
+        InterpreterMetrics.getInstance().reportVariableLookup();
 
         if(MethodTracker.getInstance().isInsideFunction()) {
             mobiValue = searchVariableInFunction(MethodTracker.getInstance().getLatestFunction(), identifierString);
@@ -0,0 +1,20 @@
+package baraco.semantics.statements;
+
+import baraco.execution.commands.ICommand;
+import baraco.execution.commands.simple.ReturnCommand;
+
+import java.util.List;
+
+/**
+ * Finds the commands that follow a return statement in the same method or if block. Those sequences stop at the
+ * return, so such commands are never added. Conditions are not evaluated: a branch that can never be taken is kept.
+ */
+public class ReturnReachability {
+
+    /*
+     * Returns true if a command appended to the given sequence would not follow a return statement.
+     */
+    public static boolean isReachable(List<ICommand> commandSequence) {
+        return commandSequence.isEmpty() || !(commandSequence.get(commandSequence.size() - 1) instanceof ReturnCommand);
+    }
+}
@@ -1,9 +1,11 @@
 package baraco.semantics.statements;
 
+import baraco.execution.ExecutionContext;
 import baraco.execution.ExecutionManager;
 import baraco.execution.commands.ICommand;
 import baraco.execution.commands.controlled.*;
 import baraco.execution.commands.simple.MethodCallCommand;
+import baraco.utils.logging.Log;
 
 import java.util.Stack;
 
@@ -11,10 +13,8 @@ public class StatementControlOverseer {
 
     private final static String TAG = "StatementControlOverseer";
 
-    private static StatementControlOverseer sharedInstance = null;
-
     public static StatementControlOverseer getInstance() {
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getStatementControlOverseer();
     }
 
     private Stack<ICommand> procedureCallStack;
@@ -26,17 +26,14 @@ public class StatementControlOverseer {
 
     private IAttemptCommand.CatchTypeEnum currentCatchType = null;
 
-    private StatementControlOverseer() {
+    public StatementControlOverseer() {
         this.procedureCallStack = new Stack<ICommand>();
 
-        System.out.println(TAG + ": " + "Stack initialized!");
-    }
-
-    public static void initialize() {
-        sharedInstance = new StatementControlOverseer();
+        Log.d(TAG, "Stack initialized!");
     }
 
     public static void reset() {
+        StatementControlOverseer sharedInstance = getInstance();
         sharedInstance.procedureCallStack.clear();
         //sharedInstance.rootControlledCommand = null;
         sharedInstance.activeControlledCommand = null;
@@ -121,7 +118,9 @@ public class StatementControlOverseer {
             IControlledCommand controlledCommand = (IControlledCommand) this.activeControlledCommand;
             controlledCommand.addCommand(command);
 
-            System.out.println("Adding to " +controlledCommand.getControlType());
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Adding to " +controlledCommand.getControlType());
+            }
 
             this.procedureCallStack.push(command);
             this.activeControlledCommand = command;
@@ -172,7 +171,7 @@ public class StatementControlOverseer {
             }
         }
         else {
-            System.out.println(TAG + ": " + "Procedure call stack is now empty.");
+            Log.d(TAG, "Procedure call stack is now empty.");
         }
     }
 
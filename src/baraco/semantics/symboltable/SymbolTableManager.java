@@ -1,6 +1,8 @@
 package baraco.semantics.symboltable;
 
+import baraco.execution.ExecutionContext;
 import baraco.semantics.symboltable.scopes.ClassScope;
+import baraco.utils.logging.Log;
 
 import java.util.HashMap;
 
@@ -8,24 +10,18 @@ public class SymbolTableManager {
 
     private final static String TAG = "SymbolTableManager";
 
-    private static SymbolTableManager sharedInstance = null;
-
     public static SymbolTableManager getInstance() {
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getSymbolTableManager();
     }
 
     private HashMap<String, ClassScope> classTable;
 
-    private SymbolTableManager() {
+    public SymbolTableManager() {
         this.classTable = new HashMap<String, ClassScope>();
     }
 
-    public static void initialize() {
-        sharedInstance = new SymbolTableManager();
-    }
-
     public static void reset() {
-        sharedInstance.classTable.clear();
+        getInstance().classTable.clear();
     }
 
     public void addClassScope(String className, ClassScope classScope) {
@@ -37,7 +33,9 @@ public class SymbolTableManager {
             return this.classTable.get(className);
         }
         else {
-            System.out.println(TAG + ": " + className + " is not found!");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, className + " is not found!");
+            }
             return null;
         }
     }
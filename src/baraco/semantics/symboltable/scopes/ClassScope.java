@@ -4,6 +4,7 @@ import baraco.execution.commands.MethodList;
 import baraco.representations.BaracoMethod;
 import baraco.representations.BaracoValue;
 import baraco.representations.RecognizedKeywords;
+import baraco.utils.logging.Log;
 
 import java.util.HashMap;
 
@@ -68,11 +69,15 @@ public class ClassScope implements IScope{
 
         if(isPublic) {
             this.publicVariables.put(identifierString, mobiValue);
-            System.out.println("Created public variable " +identifierString+ " type: " +mobiValue.getPrimitiveType());
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Created public variable " +identifierString+ " type: " +mobiValue.getPrimitiveType());
+            }
         }
         else {
             this.privateVariables.put(identifierString, mobiValue);
-            System.out.println("Created private variable " +identifierString+ " type: " +mobiValue.getPrimitiveType());
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Created private variable " +identifierString+ " type: " +mobiValue.getPrimitiveType());
+            }
         }
     }
 
@@ -91,12 +96,16 @@ public class ClassScope implements IScope{
         if(isPublic) {
             BaracoValue baracoValue = this.publicVariables.get(identifierString);
             baracoValue.setValue(valueString);
-            System.out.println("Updated public variable " +identifierString+ " of type " +baracoValue.getPrimitiveType()+ " with value " +valueString);
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Updated public variable " +identifierString+ " of type " +baracoValue.getPrimitiveType()+ " with value " +valueString);
+            }
         }
         else {
             BaracoValue baracoValue = this.privateVariables.get(identifierString);
             baracoValue.setValue(valueString);
-            System.out.println("Updated private variable " +identifierString+ " of type " +baracoValue.getPrimitiveType()+ " with value " +valueString);
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Updated private variable " +identifierString+ " of type " +baracoValue.getPrimitiveType()+ " with value " +valueString);
+            }
         }
     }
 
@@ -105,7 +114,9 @@ public class ClassScope implements IScope{
             return this.publicVariables.get(identifier);
         }
         else {
-            System.out.println(TAG + ": " + "Public " +identifier + " is not found.");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Public " +identifier + " is not found.");
+            }
             return null;
         }
     }
@@ -115,20 +126,26 @@ public class ClassScope implements IScope{
             return this.privateVariables.get(identifier);
         }
         else {
-            System.out.println(TAG + ": " + "Private " +identifier + " is not found.");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Private " +identifier + " is not found.");
+            }
             return null;
         }
     }
 
     public void addPrivateBaracoMethod(String identifier, BaracoMethod baracoMethod) {
         this.privateMethods.put(identifier, baracoMethod);
-        System.out.println("Created private function " +identifier+ " with return type " + baracoMethod.getReturnType());
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Created private function " +identifier+ " with return type " + baracoMethod.getReturnType());
+        }
         MethodList.getInstance().addMethodName(identifier);
     }
 
     public void addPublicBaracoMethod(String identifier, BaracoMethod baracoMethod) {
         this.publicMethods.put(identifier, baracoMethod);
-        System.out.println("Created public function " +identifier+ " with return type " + baracoMethod.getReturnType());
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, "Created public function " +identifier+ " with return type " + baracoMethod.getReturnType());
+        }
         MethodList.getInstance().addMethodName(identifier);
     }
 
@@ -152,7 +169,9 @@ public class ClassScope implements IScope{
             return this.publicMethods.get(identifier);
         }
         else {
-            System.out.println(TAG + ": " + "Private " +identifier+ " function is not found.");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Private " +identifier+ " function is not found.");
+            }
             return null;
         }
     }
@@ -162,7 +181,9 @@ public class ClassScope implements IScope{
             return this.privateMethods.get(identifier);
         }
         else {
-            System.out.println(TAG + ": " + "Public " +identifier+ " function is not found");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, "Public " +identifier+ " function is not found");
+            }
             return null;
         }
     }
@@ -175,7 +196,9 @@ public class ClassScope implements IScope{
             return this.privateMethods.get(identifier);
         }
         else {
-            System.out.println(TAG + ": " + identifier + " is not found in " +this.className);
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, identifier + " is not found in " +this.className);
+            }
             return null;
         }
     }
@@ -1,6 +1,8 @@
 package baraco.semantics.symboltable.scopes;
 
+import baraco.execution.ExecutionManager;
 import baraco.representations.BaracoValue;
+import baraco.utils.logging.Log;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -78,7 +80,9 @@ public class LocalScope implements IScope {
             return this.localVariables.get(identifier);
         }
         else {
-            System.out.println(TAG + ": " + identifier + " not found!");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, identifier + " not found!");
+            }
             return null;
         }
     }
@@ -99,7 +103,7 @@ public class LocalScope implements IScope {
         this.initializeLocalVariableMap();
 
         BaracoValue baracoValue = BaracoValue.createEmptyVariableFromKeywords(primitiveTypeString);
-        this.localVariables.put(identifierString, baracoValue);
+        this.declareVariable(identifierString, baracoValue);
     }
 
     /*
@@ -118,7 +122,7 @@ public class LocalScope implements IScope {
 
         BaracoValue baracoValue = BaracoValue.createEmptyVariableFromKeywords(primitiveTypeString);
         baracoValue.markFinal();
-        this.localVariables.put(identifierString, baracoValue);
+        this.declareVariable(identifierString, baracoValue);
     }
 
     public void addFinalInitVariableFromKeyWords(String primitiveTypeString, String identifierString, String valueString) {
@@ -132,7 +136,18 @@ public class LocalScope implements IScope {
 
     public void addMobiValue(String identifier, BaracoValue baracoValue) {
         this.initializeLocalVariableMap();
+        this.declareVariable(identifier, baracoValue);
+    }
+
+    /*
+     * Adds a variable to this scope. Variables declared inside a method are given a slot in that method's frames.
+     */
+    private void declareVariable(String identifier, BaracoValue baracoValue) {
         this.localVariables.put(identifier, baracoValue);
+
+        if(ExecutionManager.getInstance().isInFunctionExecution()) {
+            ExecutionManager.getInstance().getCurrentFunction().addLocalVariable(baracoValue);
+        }
     }
 
     /*
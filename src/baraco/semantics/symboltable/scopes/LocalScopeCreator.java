@@ -1,6 +1,8 @@
 package baraco.semantics.symboltable.scopes;
 
+import baraco.execution.ExecutionContext;
 import baraco.representations.BaracoValue;
+import baraco.utils.logging.Log;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,24 +12,18 @@ public class LocalScopeCreator {
 
     private final static String TAG = "ScopeCreator";
 
-    private static LocalScopeCreator sharedInstance = null;
-
     public static LocalScopeCreator getInstance() {
-        return sharedInstance;
+        return ExecutionContext.getCurrent().getLocalScopeCreator();
     }
 
     private LocalScope activeLocalScope = null;
 
-    private LocalScopeCreator() {
-
-    }
+    public LocalScopeCreator() {
 
-    public static void initialize() {
-        sharedInstance = new LocalScopeCreator();
     }
 
     public static void reset() {
-        sharedInstance.activeLocalScope = null;
+        getInstance().activeLocalScope = null;
     }
 
     /*
@@ -61,10 +57,10 @@ public class LocalScopeCreator {
             this.activeLocalScope = (LocalScope) this.activeLocalScope.getParent();
         }
         else if(this.activeLocalScope.getParent() == null) {
-            System.out.println(TAG + ": " + "Cannot change parent. Current active local scope no longer has a parent.");
+            Log.d(TAG, "Cannot change parent. Current active local scope no longer has a parent.");
         }
         else {
-            System.out.println(TAG + ": " + "Cannot change parent. Current active local scope's parent is now a class scope.");
+            Log.d(TAG, "Cannot change parent. Current active local scope's parent is now a class scope.");
         }
     }
 
@@ -74,7 +70,9 @@ public class LocalScopeCreator {
     public static BaracoValue searchVariableInLocalIterative(String identifier, LocalScope localScope) {
 
         if(localScope == null) {
-            System.out.println(TAG + ": " + identifier + " not found in any local scope!");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, identifier + " not found in any local scope!");
+            }
             return null;
         }
 
@@ -102,7 +100,9 @@ public class LocalScopeCreator {
             }
         }
 
-        System.out.println(TAG + ": " + identifier + " not found in any local scope!");
+        if(Log.isDebugEnabled()) {
+            Log.d(TAG, identifier + " not found in any local scope!");
+        }
         return null;
     }
 }
@@ -1,41 +1,86 @@
 package baraco.semantics.utils;
 
 import baraco.antlr.lexer.BaracoLexer;
+import baraco.execution.commands.EvaluationCommand;
 import baraco.representations.BaracoValue;
 import baraco.representations.RecognizedKeywords;
+import baraco.utils.logging.Log;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 public class AssignmentUtils {
 
+    private final static String TAG = "AssignmentUtils";
+
     /*
 	 * Assigns an appropriate value depending on the primitive type. Since expression class returns a double value, we attempt
 	 * to properly cast it. All expression commands accept INT, LONG, BYTE, SHORT, FLOAT and DOUBLE.
 	 */
     public static void assignAppropriateValue(BaracoValue baracoValue, BigDecimal evaluationValue) {
         if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.INT) {
-            baracoValue.setValue(Integer.toString(evaluationValue.intValue()));
+            baracoValue.setIntValue(evaluationValue.intValue());
         }
         else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.DECIMAL) {
-            baracoValue.setValue(Double.toString(evaluationValue.doubleValue()));
+            baracoValue.setDecimalValue(evaluationValue.doubleValue());
         }
         else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.BOOL) {
             int result = evaluationValue.intValue();
 
-            if(result == 1) {
-                baracoValue.setValue(RecognizedKeywords.BOOLEAN_TRUE);
-            }
-            else {
-                baracoValue.setValue(RecognizedKeywords.BOOLEAN_FALSE);
-            }
+            baracoValue.setBoolValue(result == 1);
         }
         else {
-            System.out.println("AssignmentUtils: DID NOT FIND APPROPRIATE TYPE!!");
+            Log.w(TAG, "DID NOT FIND APPROPRIATE TYPE!!");
             //Console.log(LogType.DEBUG, "MobiValue: DID NOT FIND APPROPRIATE TYPE!!");
         }
     }
 
+    /*
+     * Assigns a numeric evaluation result in the representation it was computed in, so that int and double
+     * results are stored without creating a BigDecimal.
+     */
+    public static void assignAppropriateValue(BaracoValue baracoValue, EvaluationCommand evaluationCommand) {
+        if(evaluationCommand.isArbitraryPrecision()) {
+            assignAppropriateValue(baracoValue, evaluationCommand.getResult());
+        }
+        else if(evaluationCommand.isIntegralResult()) {
+            assignAppropriateValue(baracoValue, evaluationCommand.getIntResult());
+        }
+        else {
+            assignAppropriateValue(baracoValue, evaluationCommand.getDecimalResult());
+        }
+    }
+
+    public static void assignAppropriateValue(BaracoValue baracoValue, int evaluationValue) {
+        if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.INT) {
+            baracoValue.setIntValue(evaluationValue);
+        }
+        else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.DECIMAL) {
+            baracoValue.setDecimalValue(evaluationValue);
+        }
+        else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.BOOL) {
+            baracoValue.setBoolValue(evaluationValue == 1);
+        }
+        else {
+            Log.w(TAG, "DID NOT FIND APPROPRIATE TYPE!!");
+        }
+    }
+
+    public static void assignAppropriateValue(BaracoValue baracoValue, double evaluationValue) {
+        if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.INT) {
+            baracoValue.setIntValue((int) evaluationValue);
+        }
+        else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.DECIMAL) {
+            baracoValue.setDecimalValue(evaluationValue);
+        }
+        else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.BOOL) {
+            baracoValue.setBoolValue((int) evaluationValue == 1);
+        }
+        else {
+            Log.w(TAG, "DID NOT FIND APPROPRIATE TYPE!!");
+        }
+    }
+
     public static void assignAppropriateValue(BaracoValue baracoValue, String stringValue) {
         if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.STRING ||
                 baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.CHAR) {
@@ -43,10 +88,26 @@ public class AssignmentUtils {
         }
     }
 
-    public static void assignAppropriateValue(BaracoValue baracoValue, BigDecimal evaluationValue, int tokenSign) {
+    /*
+     * Assigns the result of an evaluation to a new array element. Numeric results are stored directly as primitives
+     * instead of going through their string form.
+     */
+    public static void assignArrayElementValue(BaracoValue baracoValue, EvaluationCommand evaluationCommand) {
+        BaracoValue.PrimitiveType primitiveType = baracoValue.getPrimitiveType();
+
+        if(evaluationCommand.isNumericResult() && (primitiveType == BaracoValue.PrimitiveType.INT ||
+                primitiveType == BaracoValue.PrimitiveType.DECIMAL || primitiveType == BaracoValue.PrimitiveType.BOOL)) {
+            assignAppropriateValue(baracoValue, evaluationCommand);
+        }
+        else {
+            baracoValue.setValue(evaluationCommand.getStringResult());
+        }
+    }
+
+    public static void assignAppropriateValue(BaracoValue baracoValue, EvaluationCommand evaluationCommand, int tokenSign) {
         if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.INT) {
-            int toAssignValue = evaluationValue.intValue();
-            int finalValue = Integer.parseInt(baracoValue.getValue().toString());
+            int toAssignValue = evaluationCommand.getIntResult();
+            int finalValue = baracoValue.getIntValue();
 
             if (tokenSign == BaracoLexer.ADD_ASSIGN) {
                 finalValue += toAssignValue;
@@ -64,13 +125,11 @@ public class AssignmentUtils {
                 finalValue %= toAssignValue;
             }
 
-            baracoValue.setValue(finalValue + "");
+            baracoValue.setIntValue(finalValue);
         }
         else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.DECIMAL) {
-            baracoValue.setValue(Double.toString(evaluationValue.doubleValue()));
-
-            double toAssignValue = evaluationValue.intValue();
-            double finalValue = Double.parseDouble(baracoValue.getValue().toString());
+            double toAssignValue = evaluationCommand.getDecimalResult();
+            double finalValue = baracoValue.getDecimalValue();
 
             if (tokenSign == BaracoLexer.ADD_ASSIGN) {
                 finalValue += toAssignValue;
@@ -88,7 +147,7 @@ public class AssignmentUtils {
                 finalValue %= toAssignValue;
             }
 
-            baracoValue.setValue(finalValue + "");
+            baracoValue.setDecimalValue(finalValue);
         }
         /*else if(baracoValue.getPrimitiveType() == BaracoValue.PrimitiveType.BOOL) {
             int result = evaluationValue.intValue();
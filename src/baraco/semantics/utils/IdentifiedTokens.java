@@ -1,9 +1,13 @@
 package baraco.semantics.utils;
 
+import baraco.utils.logging.Log;
+
 import java.util.HashMap;
 
 public class IdentifiedTokens {
 
+    private final static String TAG = "IdentifiedTokens";
+
     private HashMap<String, String> tokenMapping;
 
     public IdentifiedTokens() {
@@ -25,7 +29,9 @@ public class IdentifiedTokens {
             return this.tokenMapping.get(key);
         }
         else {
-            System.out.println(key +" not found in list of tokens.");
+            if(Log.isDebugEnabled()) {
+                Log.d(TAG, key +" not found in list of tokens.");
+            }
             return null;
         }
     }
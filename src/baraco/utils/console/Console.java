@@ -0,0 +1,40 @@
+package baraco.utils.console;
+
+import baraco.antlr.error.BaracoError;
+import baraco.execution.ExecutionContext;
+
+/**
+ * Routes program output and error reports to the active output sink. The IDE installs a sink that writes
+ * to its console pane, while the command line runner keeps the default sink, which writes to standard output.
+ * An execution context with its own sink overrides this one for the programs it runs.
+ */
+public class Console {
+
+    private static volatile IOutputSink outputSink = new StandardOutputSink();
+
+    private Console() {
+
+    }
+
+    public static void setOutputSink(IOutputSink sink) {
+        outputSink = sink;
+    }
+
+    public static IOutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    public static void print(String text) {
+        getActiveSink().print(text);
+    }
+
+    public static void printError(BaracoError error) {
+        getActiveSink().printError(error);
+    }
+
+    private static IOutputSink getActiveSink() {
+        IOutputSink contextSink = ExecutionContext.getCurrent().getOutputSink();
+
+        return contextSink != null ? contextSink : outputSink;
+    }
+}
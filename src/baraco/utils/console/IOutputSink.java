@@ -0,0 +1,13 @@
+package baraco.utils.console;
+
+import baraco.antlr.error.BaracoError;
+
+/**
+ * A destination for the text a program prints and for the errors reported while building or running it.
+ */
+public interface IOutputSink {
+
+    void print(String text);
+
+    void printError(BaracoError error);
+}
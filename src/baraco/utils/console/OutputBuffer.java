@@ -0,0 +1,178 @@
+package baraco.utils.console;
+
+import baraco.antlr.error.BaracoError;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An output sink that queues output instead of writing it. A consumer, such as the console pane refreshing
+ * once per frame, periodically drains the queue into the actual sink, merging consecutive prints into a
+ * single chunk of text.
+ *
+ * Printing is lock-free while the buffer has room. Once the queued text reaches the capacity, the
+ * {@link OverflowPolicy} decides whether the printing thread waits or its text is dropped. Errors are never dropped.
+ */
+public class OutputBuffer implements IOutputSink {
+
+    public final static int DEFAULT_CAPACITY = 1 << 20; //in characters
+
+    private final static Object DROPPED_MARKER = new Object();
+
+    private final ConcurrentLinkedQueue<Object> entries = new ConcurrentLinkedQueue<Object>(); //strings and baraco errors
+    private final AtomicInteger pendingChars = new AtomicInteger();
+    private final AtomicLong droppedChars = new AtomicLong();
+    private final AtomicBoolean droppedMarkerQueued = new AtomicBoolean();
+    private final Object spaceLock = new Object();
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+
+    public OutputBuffer() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    public OutputBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void print(String text) {
+        if(text == null || text.isEmpty()) {
+            return;
+        }
+
+        if(this.reserve(text.length())) {
+            this.entries.offer(text);
+        }
+        else {
+            this.droppedChars.addAndGet(text.length());
+
+            if(this.droppedMarkerQueued.compareAndSet(false, true)) {
+                this.entries.offer(DROPPED_MARKER);
+            }
+        }
+    }
+
+    @Override
+    public void printError(BaracoError error) {
+        this.entries.offer(error);
+    }
+
+    /*
+     * Claims room for the given number of characters. Returns false if the text has to be dropped.
+     * A single print larger than the capacity is accepted once the buffer is empty.
+     */
+    private boolean reserve(int length) {
+        while(true) {
+            int pending = this.pendingChars.get();
+
+            if(this.hasRoom(pending, length)) {
+                if(this.pendingChars.compareAndSet(pending, pending + length)) {
+                    return true;
+                }
+            }
+            else if(this.overflowPolicy == OverflowPolicy.DROP) {
+                return false;
+            }
+            else if(!this.awaitSpace(length)) {
+                //keep the text of an interrupted thread rather than losing it
+                this.pendingChars.addAndGet(length);
+                return true;
+            }
+        }
+    }
+
+    /*
+     * Compares in long, since pending + length can exceed Integer.MAX_VALUE when the capacity is that large.
+     */
+    private boolean hasRoom(int pending, int length) {
+        return pending == 0 || (long) pending + length <= this.capacity;
+    }
+
+    private boolean awaitSpace(int length) {
+        synchronized(this.spaceLock) {
+            try {
+                while(true) {
+                    int pending = this.pendingChars.get();
+
+                    if(this.hasRoom(pending, length)) {
+                        return true;
+                    }
+
+                    this.spaceLock.wait();
+                }
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /*
+     * Writes queued output to the given sink, stopping once about maxChars characters have been written.
+     * Consecutive prints are merged into one call to print().
+     */
+    public void drainTo(IOutputSink sink, int maxChars) {
+        StringBuilder text = new StringBuilder();
+        int drainedChars = 0;
+        Object entry;
+
+        while(drainedChars < maxChars && (entry = this.entries.poll()) != null) {
+            if(entry instanceof String) {
+                text.append((String) entry);
+                drainedChars += ((String) entry).length();
+            }
+            else if(entry == DROPPED_MARKER) {
+                this.droppedMarkerQueued.set(false);
+                long dropped = this.droppedChars.getAndSet(0);
+
+                if(dropped > 0) {
+                    text.append("\n[").append(dropped).append(" characters of output dropped]\n");
+                }
+            }
+            else {
+                flushText(sink, text);
+                sink.printError((BaracoError) entry);
+            }
+        }
+
+        flushText(sink, text);
+
+        if(drainedChars > 0) {
+            this.pendingChars.addAndGet(-drainedChars);
+
+            synchronized(this.spaceLock) {
+                this.spaceLock.notifyAll();
+            }
+        }
+    }
+
+    private static void flushText(IOutputSink sink, StringBuilder text) {
+        if(text.length() > 0) {
+            sink.print(text.toString());
+            text.setLength(0);
+        }
+    }
+
+    /*
+     * Discards all queued output, releasing any thread waiting for room.
+     */
+    public void clear() {
+        this.entries.clear();
+        this.droppedChars.set(0);
+        this.droppedMarkerQueued.set(false);
+        this.pendingChars.set(0);
+
+        synchronized(this.spaceLock) {
+            this.spaceLock.notifyAll();
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+}
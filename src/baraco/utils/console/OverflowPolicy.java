@@ -0,0 +1,9 @@
+package baraco.utils.console;
+
+/**
+ * What an {@link OutputBuffer} does when a program prints faster than the output can be shown.
+ */
+public enum OverflowPolicy {
+    BLOCK, //the printing thread waits until the buffer has room again
+    DROP //the text is discarded and the number of dropped characters is reported in its place
+}
@@ -0,0 +1,46 @@
+package baraco.utils.console;
+
+import baraco.antlr.error.BaracoError;
+
+import java.io.PrintStream;
+
+/**
+ * Writes program output to standard output and errors to standard error.
+ */
+public class StandardOutputSink implements IOutputSink {
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public StandardOutputSink() {
+        this(System.out, System.err);
+    }
+
+    public StandardOutputSink(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    @Override
+    public void print(String text) {
+        this.out.print(text);
+        this.out.flush();
+    }
+
+    @Override
+    public void printError(BaracoError error) {
+        StringBuilder message = new StringBuilder();
+
+        if(error.getErrorPrefix() != null) {
+            message.append(error.getErrorPrefix());
+        }
+        if(error.getLineLayout() != null) {
+            message.append(error.getLineLayout());
+        }
+        if(error.getErrorSuffix() != null) {
+            message.append(error.getErrorSuffix());
+        }
+
+        this.err.println(message);
+    }
+}
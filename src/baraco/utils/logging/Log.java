@@ -0,0 +1,93 @@
+package baraco.utils.logging;
+
+/**
+ * A leveled replacement for the System.out debug prints of the builder and the interpreter.
+ * Logging is off by default. It can be switched on at runtime through {@link #setLevel(LogLevel)}
+ * or at startup with -Dbaraco.log=debug.
+ *
+ * Messages that are built by concatenation should be guarded with one of the is*Enabled checks,
+ * so that nothing is allocated while logging is off.
+ */
+public class Log {
+
+    private final static String LEVEL_PROPERTY = "baraco.log";
+
+    private static volatile LogLevel level = readDefaultLevel();
+
+    private Log() {
+
+    }
+
+    private static LogLevel readDefaultLevel() {
+        String property = System.getProperty(LEVEL_PROPERTY);
+
+        if(property == null) {
+            return LogLevel.OFF;
+        }
+
+        try {
+            return LogLevel.valueOf(property.trim().toUpperCase());
+        } catch(IllegalArgumentException e) {
+            return LogLevel.OFF;
+        }
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel != LogLevel.OFF && messageLevel.compareTo(level) >= 0;
+    }
+
+    public static boolean isDebugEnabled() {
+        return level == LogLevel.DEBUG;
+    }
+
+    public static boolean isInfoEnabled() {
+        return level.compareTo(LogLevel.INFO) <= 0;
+    }
+
+    public static boolean isWarnEnabled() {
+        return level.compareTo(LogLevel.WARN) <= 0;
+    }
+
+    public static boolean isErrorEnabled() {
+        return level.compareTo(LogLevel.ERROR) <= 0;
+    }
+
+    public static void d(String tag, String message) {
+        if(isDebugEnabled()) {
+            print(LogLevel.DEBUG, tag, message);
+        }
+    }
+
+    public static void i(String tag, String message) {
+        if(isInfoEnabled()) {
+            print(LogLevel.INFO, tag, message);
+        }
+    }
+
+    public static void w(String tag, String message) {
+        if(isWarnEnabled()) {
+            print(LogLevel.WARN, tag, message);
+        }
+    }
+
+    public static void e(String tag, String message) {
+        if(isErrorEnabled()) {
+            print(LogLevel.ERROR, tag, message);
+        }
+    }
+
+    /*
+     * Writes to standard error, so that log lines never mix with the output of the program being run.
+     */
+    private static void print(LogLevel messageLevel, String tag, String message) {
+        System.err.println(messageLevel + " " + tag + ": " + message);
+    }
+}
@@ -0,0 +1,12 @@
+package baraco.utils.logging;
+
+/**
+ * The levels accepted by {@link Log}, from the most to the least verbose. OFF silences every message.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
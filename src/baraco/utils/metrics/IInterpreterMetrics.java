@@ -0,0 +1,67 @@
+package baraco.utils.metrics;
+
+import javax.management.MXBean;
+
+/**
+ * The counters of the interpreter exposed through JMX, as the MBean baraco:type=Interpreter.
+ * Counts and durations cover every program run in this JVM since it started.
+ */
+@MXBean
+public interface IInterpreterMetrics {
+
+    /*
+     * Commands executed, including the ones in loops and method bodies.
+     */
+    long getCommandsExecuted();
+
+    /*
+     * Commands executed per second since the previous call that was at least a second ago.
+     */
+    double getCommandsPerSecond();
+
+    /*
+     * Expressions evaluated, added at the same checkpoints as the commands executed.
+     */
+    long getExpressionsEvaluated();
+
+    /*
+     * Expressions compiled into node trees, one for every EvaluationCommand created while building or running.
+     */
+    long getExpressionsCompiled();
+
+    /*
+     * Variables looked up by name. Most variable uses are bound when building and do not need a lookup.
+     */
+    long getVariableLookups();
+
+    /*
+     * Baraco calls in progress, summed over the programs that are running.
+     */
+    long getCurrentCallDepth();
+
+    /*
+     * Most activation frames a method has had at once, which is how deep it has recursed.
+     */
+    int getPeakFrameStackDepth();
+
+    long getBuildCount();
+
+    /*
+     * Builds that found errors, so that their program could not be executed.
+     */
+    long getFailedBuildCount();
+
+    /*
+     * Time spent lexing and parsing the source in the last build.
+     */
+    double getLastParseMillis();
+
+    /*
+     * Time spent on the last build: parsing, analyzing the tree into commands and resolving variables.
+     */
+    double getLastBuildMillis();
+
+    double getTotalBuildMillis();
+
+    void resetPeakFrameStackDepth();
+}
@@ -0,0 +1,202 @@
+package baraco.utils.metrics;
+
+import baraco.utils.logging.Log;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the counters of the interpreter for all execution contexts and exposes them through JMX once register()
+ * has been called, so that the interpreter can be monitored with jconsole or any other JMX client.
+ *
+ * Counters that change on every command or expression use LongAdder, so that programs running on several threads
+ * do not contend on them. Executed commands and evaluated expressions are counted by each execution monitor and
+ * added here in batches.
+ */
+public class InterpreterMetrics implements IInterpreterMetrics {
+
+    private final static String TAG = "InterpreterMetrics";
+
+    public final static String OBJECT_NAME = "baraco:type=Interpreter";
+
+    private final static long RATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final static InterpreterMetrics sharedInstance = new InterpreterMetrics();
+
+    public static InterpreterMetrics getInstance() {
+        return sharedInstance;
+    }
+
+    private final LongAdder commandsExecuted = new LongAdder();
+    private final LongAdder expressionsEvaluated = new LongAdder();
+    private final LongAdder expressionsCompiled = new LongAdder();
+    private final LongAdder variableLookups = new LongAdder();
+    private final LongAdder activeCalls = new LongAdder();
+    private final AtomicInteger peakFrameStackDepth = new AtomicInteger();
+
+    private final LongAdder buildCount = new LongAdder();
+    private final LongAdder failedBuildCount = new LongAdder();
+    private final LongAdder totalBuildNanos = new LongAdder();
+    private volatile long lastParseNanos = 0;
+    private volatile long lastBuildNanos = 0;
+
+    //guarded by this
+    private long rateSampleNanos = System.nanoTime();
+    private long rateSampleCommands = 0;
+    private double commandsPerSecond = 0;
+
+    private boolean registered = false;
+
+    private InterpreterMetrics() {
+
+    }
+
+    /*
+     * Registers the MBean with the platform MBean server. Does nothing if it is already registered.
+     */
+    public static synchronized void register() {
+        if(sharedInstance.registered) {
+            return;
+        }
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            mBeanServer.registerMBean(sharedInstance, new ObjectName(OBJECT_NAME));
+            sharedInstance.registered = true;
+        } catch (JMException e) {
+            Log.e(TAG, "Could not register " + OBJECT_NAME + ": " + e);
+        }
+    }
+
+    public void reportCommandsExecuted(long count) {
+        this.commandsExecuted.add(count);
+    }
+
+    public void reportExpressionsEvaluated(long count) {
+        this.expressionsEvaluated.add(count);
+    }
+
+    public void reportExpressionCompiled() {
+        this.expressionsCompiled.increment();
+    }
+
+    public void reportVariableLookup() {
+        this.variableLookups.increment();
+    }
+
+    public void reportEnterCall() {
+        this.activeCalls.increment();
+    }
+
+    /*
+     * Reports calls that have ended, or that were abandoned because their run was cancelled.
+     */
+    public void reportExitCalls(int count) {
+        this.activeCalls.add(-count);
+    }
+
+    public void reportFrameStackDepth(int depth) {
+        int peak = this.peakFrameStackDepth.get();
+
+        //the peak is rarely beaten, so it is read before attempting to write it
+        while(depth > peak && !this.peakFrameStackDepth.compareAndSet(peak, depth)) {
+            peak = this.peakFrameStackDepth.get();
+        }
+    }
+
+    public void reportBuild(long parseNanos, long buildNanos, boolean successful) {
+        this.buildCount.increment();
+        this.totalBuildNanos.add(buildNanos);
+        this.lastParseNanos = parseNanos;
+        this.lastBuildNanos = buildNanos;
+
+        if(!successful) {
+            this.failedBuildCount.increment();
+        }
+    }
+
+    @Override
+    public long getCommandsExecuted() {
+        return this.commandsExecuted.sum();
+    }
+
+    @Override
+    public synchronized double getCommandsPerSecond() {
+        long now = System.nanoTime();
+        long elapsed = now - this.rateSampleNanos;
+
+        if(elapsed >= RATE_INTERVAL_NANOS) {
+            long commands = this.commandsExecuted.sum();
+
+            this.commandsPerSecond = (commands - this.rateSampleCommands) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            this.rateSampleCommands = commands;
+            this.rateSampleNanos = now;
+        }
+
+        return this.commandsPerSecond;
+    }
+
+    @Override
+    public long getExpressionsEvaluated() {
+        return this.expressionsEvaluated.sum();
+    }
+
+    @Override
+    public long getExpressionsCompiled() {
+        return this.expressionsCompiled.sum();
+    }
+
+    @Override
+    public long getVariableLookups() {
+        return this.variableLookups.sum();
+    }
+
+    @Override
+    public long getCurrentCallDepth() {
+        return this.activeCalls.sum();
+    }
+
+    @Override
+    public int getPeakFrameStackDepth() {
+        return this.peakFrameStackDepth.get();
+    }
+
+    @Override
+    public long getBuildCount() {
+        return this.buildCount.sum();
+    }
+
+    @Override
+    public long getFailedBuildCount() {
+        return this.failedBuildCount.sum();
+    }
+
+    @Override
+    public double getLastParseMillis() {
+        return toMillis(this.lastParseNanos);
+    }
+
+    @Override
+    public double getLastBuildMillis() {
+        return toMillis(this.lastBuildNanos);
+    }
+
+    @Override
+    public double getTotalBuildMillis() {
+        return toMillis(this.totalBuildNanos.sum());
+    }
+
+    @Override
+    public void resetPeakFrameStackDepth() {
+        this.peakFrameStackDepth.set(0);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1000000.0;
+    }
+}
@@ -1,44 +1,74 @@
 package baraco.utils.notifications;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import baraco.execution.ExecutionContext;
+import baraco.utils.logging.Log;
 
-public class NotificationCenter {
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-    private static NotificationCenter sharedInstance = null;
+/**
+ * Delivers notifications to the listeners observing them. Observers may be added, removed and notified from any
+ * thread, including from inside a listener. Each post goes to the listeners registered when it starts.
+ *
+ * Listeners added with addObserver() run on the posting thread. Listeners added with addAsyncObserver() run on a
+ * single shared delivery thread, in the order the notifications were posted, so that a slow listener such as the UI
+ * never holds up the execution thread.
+ */
+public class NotificationCenter {
 
     private final static String TAG = "NotificationCenter";
 
-    private HashMap<String, ArrayList<NotificationListener>> notificationMap;
-    private NotificationCenter() {
-        this.notificationMap = new HashMap<String, ArrayList<NotificationListener>>();
+    private static ExecutorService asyncDeliveryExecutor = null;
+
+    private final ConcurrentHashMap<String, List<NotificationListener>> notificationMap;
+
+    public NotificationCenter() {
+        this.notificationMap = new ConcurrentHashMap<String, List<NotificationListener>>();
     }
 
     public void addObserver(String notificationString, NotificationListener listener) {
+        this.notificationMap.computeIfAbsent(notificationString, key -> new CopyOnWriteArrayList<NotificationListener>())
+                .add(listener);
+    }
 
-        //if there is already an existing key, put listener to array list
-        if(this.notificationMap.containsKey(notificationString)) {
-            ArrayList<NotificationListener> listenerList = this.notificationMap.get(notificationString);
-            listenerList.add(listener);
-        }
-        //create new arraylist
-        else {
-            ArrayList<NotificationListener> listenerList = new ArrayList<NotificationListener>();
-            listenerList.add(listener);
-            this.notificationMap.put(notificationString, listenerList);
-        }
+    /*
+     * Adds a listener that is notified on the delivery thread instead of the posting thread.
+     */
+    public void addAsyncObserver(String notificationString, NotificationListener listener) {
+        this.addObserver(notificationString, new AsyncListener(listener));
     }
 
+    /*
+     * Removes the first registration of the given listener, like List.remove. A listener added more than once stays
+     * registered for its other additions.
+     */
     public void removeObserver(String notificationString, NotificationListener listener) {
-        if(this.notificationMap.containsKey(notificationString)) {
-            ArrayList<NotificationListener> listenerList = this.notificationMap.get(notificationString);
-            if(listenerList.remove(listener)) {
-                System.out.println(TAG + ": " + "Removed observer " +listener);
-            }
-            else {
-                System.out.println(TAG + ": " + "Listener not found. Doing nothing");
+        List<NotificationListener> listenerList = this.notificationMap.get(notificationString);
+
+        if(listenerList != null) {
+            for(NotificationListener observer : listenerList) {
+                if(isRegistrationOf(observer, listener) && listenerList.remove(observer)) {
+                    if(Log.isDebugEnabled()) {
+                        Log.d(TAG, "Removed observer " +listener);
+                    }
+
+                    return;
+                }
             }
+
+            Log.d(TAG, "Listener not found. Doing nothing");
+        }
+    }
+
+    private static boolean isRegistrationOf(NotificationListener observer, NotificationListener listener) {
+        if(observer instanceof AsyncListener) {
+            return ((AsyncListener) observer).listener.equals(listener);
         }
+
+        return observer.equals(listener);
     }
 
     public void clearObservers() {
@@ -46,7 +76,7 @@ public class NotificationCenter {
     }
 
     public void postNotification(String notificationString, Parameters parameters) {
-        ArrayList<NotificationListener> listenerList = this.notificationMap.get(notificationString);
+        List<NotificationListener> listenerList = this.notificationMap.get(notificationString);
 
         if(listenerList != null) {
             for(NotificationListener listener : listenerList) {
@@ -56,20 +86,46 @@ public class NotificationCenter {
     }
 
     public void postNotification(String notificationString) {
-        ArrayList<NotificationListener> listenerList = this.notificationMap.get(notificationString);
+        this.postNotification(notificationString, null);
+    }
 
-        if(listenerList != null) {
-            for(NotificationListener listener : listenerList) {
-                listener.onNotify(notificationString, null);
-            }
+    public static NotificationCenter getInstance() {
+        return ExecutionContext.getCurrent().getNotificationCenter();
+    }
+
+    private static synchronized ExecutorService getAsyncDeliveryExecutor() {
+        if(asyncDeliveryExecutor == null) {
+            asyncDeliveryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "baraco-notifications");
+                thread.setDaemon(true);
+                return thread;
+            });
         }
+
+        return asyncDeliveryExecutor;
     }
 
-    public static NotificationCenter getInstance() {
-        if(sharedInstance == null) {
-            sharedInstance = new NotificationCenter();
+    /*
+     * Hands a notification over to the delivery thread. The listener runs in the execution context of the poster.
+     */
+    private static class AsyncListener implements NotificationListener {
+        private final NotificationListener listener;
+
+        private AsyncListener(NotificationListener listener) {
+            this.listener = listener;
         }
 
-        return sharedInstance;
+        @Override
+        public void onNotify(String notificationString, Parameters params) {
+            ExecutionContext executionContext = ExecutionContext.getCurrent();
+
+            getAsyncDeliveryExecutor().execute(() -> executionContext.run(() -> {
+                try {
+                    this.listener.onNotify(notificationString, params);
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Listener of " + notificationString + " failed: " + e);
+                }
+            }));
+        }
     }
 }
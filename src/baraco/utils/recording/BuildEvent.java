@@ -0,0 +1,39 @@
+package baraco.utils.recording;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Building a program: lexing, parsing, analyzing the tree into commands and resolving variable references.
+ */
+@Name("baraco.Build")
+@Label("Build")
+@Category({"Baraco", "Build"})
+@Description("Parsing and analyzing a Baraco source file")
+@StackTrace(false)
+public class BuildEvent extends jdk.jfr.Event {
+
+    @Label("Class Name")
+    String className;
+
+    @Label("Source Length")
+    @DataAmount(DataAmount.BYTES)
+    long sourceLength;
+
+    @Label("Successful")
+    @Description("Whether the program can be executed")
+    boolean successful;
+
+    public BuildEvent(String className, long sourceLength) {
+        this.className = className;
+        this.sourceLength = sourceLength;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+}
@@ -0,0 +1,40 @@
+package baraco.utils.recording;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.antlr.v4.runtime.ParserRuleContext;
+
+/**
+ * The evaluation of an expression by an evaluation command. Programs evaluate expressions all the time, so only
+ * the ones taking longer than the threshold are recorded, 1 ms unless the recording settings say otherwise.
+ */
+@Name("baraco.Evaluation")
+@Label("Expression Evaluation")
+@Category({"Baraco", "Execution"})
+@Description("The evaluation of a Baraco expression")
+@StackTrace(false)
+@Threshold("1 ms")
+public class EvaluationEvent extends jdk.jfr.Event {
+
+    @Label("Expression")
+    String expression;
+
+    @Label("Line Number")
+    int lineNumber;
+
+    /*
+     * Ends the event and records it if it is enabled and lasted long enough. The expression text is only
+     * produced in that case.
+     */
+    public void commit(ParserRuleContext exprCtx) {
+        if(this.shouldCommit()) {
+            this.expression = exprCtx.getText();
+            this.lineNumber = exprCtx.getStart().getLine();
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package baraco.utils.recording;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One execution of a for, while or do-while statement, from its first condition check to leaving the loop,
+ * whether it finished or was cancelled.
+ */
+@Name("baraco.Loop")
+@Label("Loop")
+@Category({"Baraco", "Execution"})
+@Description("A Baraco loop statement, run to completion")
+@StackTrace(false)
+public class LoopEvent extends jdk.jfr.Event {
+
+    @Label("Loop Type")
+    String loopType;
+
+    @Label("Line Number")
+    int lineNumber;
+
+    @Label("Iterations")
+    long iterations;
+
+    /*
+     * Counts one more pass through the body of the loop.
+     */
+    public void reportIteration() {
+        this.iterations++;
+    }
+
+    /*
+     * Ends the event and records it if it is enabled and lasted long enough. Does nothing when no recording is active.
+     */
+    public void commit(String loopType, int lineNumber) {
+        if(this.shouldCommit()) {
+            this.loopType = loopType;
+            this.lineNumber = lineNumber;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package baraco.utils.recording;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A call to a Baraco method, from the method tracker entering it to leaving it. The Java stack trace is left out
+ * since it only shows the interpreter.
+ */
+@Name("baraco.MethodCall")
+@Label("Method Call")
+@Category({"Baraco", "Execution"})
+@Description("A Baraco method call, including the calls it makes")
+@StackTrace(false)
+public class MethodCallEvent extends jdk.jfr.Event {
+
+    @Label("Method Name")
+    String methodName;
+
+    @Label("Call Depth")
+    @Description("Number of Baraco calls on the call stack, including this one")
+    int callDepth;
+
+    public MethodCallEvent(String methodName, int callDepth) {
+        this.methodName = methodName;
+        this.callDepth = callDepth;
+    }
+}